@@ -0,0 +1,68 @@
+package test.jmh;
+
+import java.util.Properties;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import PageObject.helpers.Config;
+import PageObject.helpers.DriverFactory;
+import PageObject.helpers.LaunchProfile;
+import test.fixtures.FixturePages;
+import test.fixtures.FixtureServer;
+
+/**
+ * One headless browser and one local fixture server per benchmark trial.
+ * The launch profile is "jmh.profile" (default ci-fast: headless, eager page load, fixed window size).
+ */
+@State(Scope.Benchmark)
+public class FixtureBrowser {
+
+    public static final int CARDS = 50;
+
+    public WebDriver driver;
+    public String homeUrl;
+    public String resultsUrl;
+    public String filterUrl;
+    public String apiResultsUrl;
+
+    private FixtureServer server;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        server = FixtureServer.start();
+        homeUrl = server.put("/home", FixturePages.home());
+        resultsUrl = server.put("/results", FixturePages.results(CARDS));
+        filterUrl = server.put("/filter", FixturePages.filterResults(CARDS));
+        server.put("/graphql", FixturePages.searchApi(CARDS));
+        apiResultsUrl = server.put("/api-results", FixturePages.searchApiResults("/graphql"));
+
+        Properties p = Config.load();
+        driver = DriverFactory.create(p, LaunchProfile.named(p, System.getProperty("jmh.profile", "ci-fast")));
+    }
+
+    public void open(String url) {
+        if (!url.equals(driver.getCurrentUrl())) {
+            driver.get(url);
+        }
+    }
+
+    public Object script(String js, Object... args) {
+        return ((JavascriptExecutor) driver).executeScript(js, args);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (driver != null) {
+            DriverFactory.quit(driver);
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package test.jmh;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import PageObject.HomeTrivagoPageObject;
+
+/**
+ * Search-form operations on the local home fixture: the location dropdown and the calendar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class HomePageBenchmark {
+
+    private HomeTrivagoPageObject home;
+
+    @Setup(Level.Iteration)
+    public void openHome(FixtureBrowser browser) {
+        browser.open(browser.homeUrl);
+        home = new HomeTrivagoPageObject(browser.driver);
+    }
+
+    @Benchmark
+    public void selectElementDropDownList() {
+        home.selectElementDropDownList("Cork");
+    }
+
+    @Benchmark
+    public void selectCheckInDate(Calendar calendar) {
+        home.selectCheckInDate(calendar.date);
+    }
+
+    /**
+     * Target date for the calendar benchmark; the calendar is back on the current month before every call (not measured).
+     */
+    @State(Scope.Benchmark)
+    public static class Calendar {
+
+        // How far ahead the calendar has to move (0 = date already on screen)
+        @Param({"0", "3", "12"})
+        public int monthsAhead;
+
+        LocalDate date;
+
+        @Setup(Level.Trial)
+        public void pickDate() {
+            date = LocalDate.now().plusMonths(monthsAhead).withDayOfMonth(15);
+        }
+
+        @Setup(Level.Invocation)
+        public void resetCalendar(FixtureBrowser browser) {
+            browser.script("resetCalendar();");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package test.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import PageObject.HotelsResult;
+
+/**
+ * HotelsResult operations on the local results / filter fixtures (50 cards).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class HotelsResultBenchmark {
+
+    private final By suggestions = By.xpath(
+            "//*[@id='page_wrapper']/section/div/div/ul/li[5]/div/div/section/div/div[1]/div/div/div[2]/div");
+    private final By closeSelector = By.xpath("//*[@id='js-fullscreen-hero']/div/div[2]/form/div/div/div[3]/button/span[2]/span");
+
+    private HotelsResult results;
+
+    @Setup(Level.Iteration)
+    public void openFilterPage(FixtureBrowser browser) {
+        browser.open(browser.filterUrl);
+        browser.script("resetFilter();");
+        results = new HotelsResult(browser.driver);
+    }
+
+    /**
+     * Fresh extraction every call (snapshot dropped first).
+     */
+    @Benchmark
+    public List<String> showResult() {
+        results.invalidate();
+        return results.showResult();
+    }
+
+    /**
+     * Unchanged list: served from the cached snapshot after a DOM-version check.
+     */
+    @Benchmark
+    public List<String> showResultCached() {
+        return results.showResult();
+    }
+
+    @Benchmark
+    public boolean isNameHotelList() {
+        return results.IsNameHotelList("Fixture Hotel 49", "none");
+    }
+
+    /**
+     * Select a filter suggestion and close the selector; FilterReset clears it before each call, outside the measurement.
+     */
+    @Benchmark
+    public boolean findElementInContainer(FilterReset reset) {
+        return results.findElementInContainer(suggestions, By.tagName("li"), "Spa", closeSelector);
+    }
+
+    /**
+     * Full applyFilter + cleanFilter round.
+     */
+    @Benchmark
+    public boolean applyAndCleanFilter() {
+        boolean applied = results.applyFilter("Spa");
+        results.cleanFilter();
+        return applied;
+    }
+
+    /**
+     * Two filters applied one after the other: two selector sessions, two re-renders.
+     */
+    @Benchmark
+    public boolean applyTwoFiltersOneByOne() {
+        boolean applied = results.applyFilter("Spa") & results.applyFilter("Free WiFi");
+        results.cleanFilter();
+        return applied;
+    }
+
+    /**
+     * The same two filters in one selector session: one re-render.
+     */
+    @Benchmark
+    public boolean applyTwoFiltersAtOnce() {
+        boolean applied = results.applyFilters("Spa", "Free WiFi");
+        results.cleanFilter();
+        return applied;
+    }
+
+    /**
+     * Unfiltered list before every findElementInContainer call (per invocation, so the reset is not timed).
+     */
+    @State(Scope.Thread)
+    public static class FilterReset {
+
+        @Setup(Level.Invocation)
+        public void resetFilter(FixtureBrowser browser) {
+            browser.script("resetFilter();");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package test.jmh;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.json.Json;
+
+/**
+ * Compares two JMH JSON result files (-rf json) benchmark by benchmark.
+ * A benchmark is flagged when its score moved by more than the threshold and by more than both error margins.
+ *
+ * Usage: java -cp ... test.jmh.JmhCompare baseline.json current.json [thresholdPct, default 10]
+ */
+public final class JmhCompare {
+
+    private JmhCompare() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.out.println("Usage: JmhCompare baseline.json current.json [thresholdPct]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        Map<String, double[]> before = read(Paths.get(args[0]));
+        Map<String, double[]> after = read(Paths.get(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-70s %12s %12s %8s%n", "benchmark", "baseline", "current", "change");
+        for (Map.Entry<String, double[]> entry : after.entrySet()) {
+            double[] then = before.get(entry.getKey());
+            double[] now = entry.getValue();
+            if (then == null) {
+                System.out.printf("%-70s %12s %12.3f %8s%n", entry.getKey(), "-", now[0], "new");
+                continue;
+            }
+            double change = then[0] == 0 ? 0 : 100 * (now[0] - then[0]) / then[0];
+            boolean significant = Math.abs(now[0] - then[0]) > then[1] + now[1];
+            String flag = !significant || Math.abs(change) <= threshold ? "" : change > 0 ? "  SLOWER" : "  faster";
+            if (flag.equals("  SLOWER")) {
+                regressions++;
+            }
+            System.out.printf("%-70s %12.3f %12.3f %+7.1f%%%s%n", entry.getKey(), then[0], now[0], change, flag);
+        }
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    /**
+     * benchmark name + params -> { score, scoreError } (AverageTime: lower is better)
+     */
+    static Map<String, double[]> read(Path file) throws Exception {
+        List<Map<String, Object>> runs = new Json().toType(Files.readString(file), Json.LIST_OF_MAPS_TYPE);
+        Map<String, double[]> scores = new LinkedHashMap<>();
+        for (Map<String, Object> run : runs) {
+            String name = String.valueOf(run.get("benchmark"));
+            Object params = run.get("params");
+            if (params instanceof Map && !((Map<?, ?>) params).isEmpty()) {
+                name += " " + params;
+            }
+            Map<?, ?> primary = (Map<?, ?>) run.get("primaryMetric");
+            double score = ((Number) primary.get("score")).doubleValue();
+            Object error = primary.get("scoreError");
+            double margin = error instanceof Number && !Double.isNaN(((Number) error).doubleValue()) ? ((Number) error).doubleValue() : 0;
+            scores.put(name, new double[] { score, margin });
+        }
+        return scores;
+    }
+}
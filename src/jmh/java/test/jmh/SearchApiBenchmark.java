@@ -0,0 +1,105 @@
+package test.jmh;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import PageObject.HotelCard;
+import PageObject.HotelsResult;
+import PageObject.helpers.Config;
+import PageObject.helpers.SearchApiCapture;
+
+/**
+ * Result list read from the captured search API response vs scraped from the rendered cards
+ * (local fixture whose cards are rendered from a fetch() of /graphql, 50 hotels).
+ *
+ * The like-for-like pair is reloadViaApi / reloadViaDom: both trigger the same fetch and stop when the
+ * new list is usable (response decoded vs cards re-rendered and scraped). cachedPayload only rebuilds the
+ * snapshot from a payload decoded earlier on the DevTools thread; it has no browser round trip and is
+ * listed as the floor of the API path, not as a rival of fromDom.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class SearchApiBenchmark {
+
+    private FixtureBrowser browser;
+    private SearchApiCapture capture;
+    private HotelsResult results;
+
+    @Setup(Level.Iteration)
+    public void openApiResults(FixtureBrowser browser) throws Exception {
+        Properties p = Config.load();
+        this.browser = browser;
+        capture = SearchApiCapture.attach(browser.driver, p);
+        browser.driver.get(browser.apiResultsUrl);
+        results = new HotelsResult(browser.driver).waitForResults();
+    }
+
+    /**
+     * Fetch again and wait for the decoded response (what a filter change costs with results.source=api).
+     */
+    @Benchmark
+    public List<HotelCard> reloadViaApi() {
+        long mark = capture.mark();
+        browser.script("reload();");
+        if (capture.awaitAfter(mark, Duration.ofSeconds(10)) == null) {
+            throw new IllegalStateException("No search API response after reload()");
+        }
+        results.invalidate();
+        return results.showResultCards();
+    }
+
+    /**
+     * Fetch again, wait for the cards to be re-rendered, then scrape them (results.source=dom).
+     */
+    @Benchmark
+    public List<HotelCard> reloadViaDom() {
+        browser.script("document.querySelector('.item__details').setAttribute('data-stale', '1'); reload();");
+        new WebDriverWait(browser.driver, Duration.ofSeconds(10)).until(d -> Boolean.TRUE.equals(browser.script(
+                "var card = document.querySelector('.item__details'); return !!card && !card.hasAttribute('data-stale');")));
+        return results.domResultCards();
+    }
+
+    /**
+     * Snapshot rebuilt from the payload already decoded (no browser call at all).
+     */
+    @Benchmark
+    public List<HotelCard> cachedPayload() {
+        results.invalidate();
+        return results.showResultCards();
+    }
+
+    /**
+     * The list on screen scraped from the DOM (one script round trip).
+     */
+    @Benchmark
+    public List<HotelCard> fromDom() {
+        return results.domResultCards();
+    }
+
+    /**
+     * API list vs rendered cards (an empty list means they agree).
+     */
+    @Benchmark
+    public List<String> crossCheck() {
+        return results.crossCheckResults();
+    }
+}
@@ -0,0 +1,85 @@
+package test.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import PageObject.helpers.SmartWaits;
+
+/**
+ * SmartWaits primitives in both engines: an element already there, one appearing after a delay,
+ * and one being removed after a delay (the delay is scheduled by the page, outside the measurement).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class SmartWaitsBenchmark {
+
+    private static final int DELAY_MILLIS = 100;
+
+    @Param({"OBSERVER", "POLLING"})
+    public SmartWaits.Mode mode;
+
+    private final By container = By.xpath("//*[@id='main_content']/div[4]");
+    private final By late = By.id("late");
+
+    private SmartWaits waits;
+    private FixtureBrowser browser;
+
+    @Setup(Level.Iteration)
+    public void openResults(FixtureBrowser browser) {
+        this.browser = browser;
+        browser.open(browser.resultsUrl);
+        waits = new SmartWaits(browser.driver, mode);
+    }
+
+    @Benchmark
+    public WebElement waitVisiblePresent() {
+        return waits.waitVisible(container, 10);
+    }
+
+    @Benchmark
+    public WebElement waitClickablePresent() {
+        return waits.waitClickable(container, 10);
+    }
+
+    @Benchmark
+    public WebElement waitVisibleDelayed() {
+        schedule("var e = document.createElement('div'); e.id = 'late'; e.textContent = 'late'; document.body.appendChild(e);");
+        WebElement shown = waits.waitVisible(late, 10);
+        browser.script("var e = document.getElementById('late'); if (e) e.remove();");
+        return shown;
+    }
+
+    @Benchmark
+    public void waitRemovedDelayed() {
+        browser.script("var e = document.createElement('div'); e.id = 'late'; e.textContent = 'late'; document.body.appendChild(e);");
+        schedule("var e = document.getElementById('late'); if (e) e.remove();");
+        waits.waitRemoved(late, 10);
+    }
+
+    @Benchmark
+    public WebElement waitStable() {
+        return waits.waitStable(container, 10);
+    }
+
+    private void schedule(String js) {
+        browser.script("setTimeout(function () { " + js + " }, " + DELAY_MILLIS + ");");
+    }
+}
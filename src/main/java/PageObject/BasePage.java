@@ -1,15 +1,22 @@
 package PageObject;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.time.Duration;
+import java.nio.file.Paths;
+import java.util.Set;
 import java.util.Properties;
 
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
 
-import static java.time.Duration.*;
+import PageObject.helpers.CommandTrace;
+import PageObject.helpers.Config;
+import PageObject.helpers.DriverFactory;
+import PageObject.helpers.DriverPool;
+import PageObject.helpers.EventLog;
+import PageObject.helpers.NetworkBlocker;
+import PageObject.helpers.SearchApiCapture;
+import PageObject.helpers.SmartWaits;
+import PageObject.helpers.TrafficArchive;
+import PageObject.helpers.TrafficRecorder;
 
 /**
  * BasePage class
@@ -17,73 +24,167 @@ import static java.time.Duration.*;
  * This class is responsible for:
  *  - Reading configuration from global.properties
  *  - Initializing the WebDriver based on the selected browser
+ *    (or borrowing a warm one from the DriverPool when pool.enabled=true)
+ *  - Blocking requests the tests never need (images, fonts, analytics...), see NetworkBlocker
  *  - Opening the target URL and setting up browser settings
+ *  - Recording the site into a local archive, or replaying it from a local server (fixtures.mode)
+ *  - Tracing every WebDriver command per page-object step when trace.enabled=true (CommandTrace)
+ *  - Capturing the search API responses HotelsResult reads its results from when results.source=api
  *  - Closing and cleaning up after tests
  *
+ * Each test instance owns its own WebDriver session, so TestNG can run
+ * classes (parallel="tests" / "classes") at the same time without sharing a browser.
+ *
  * Using Selenium 4.6+ (Selenium Manager automatically manages browser drivers)
  */
 public class BasePage {
 
-    // Shared WebDriver instance accessible by subclasses
-    protected static WebDriver driver = null;
+    // WebDriver owned by this test instance (never shared between classes/threads)
+    protected WebDriver driver = null;
+
+    // The undecorated session behind driver: what the pool, the blocker and the recorder know about
+    private WebDriver session = null;
+
+    // Properties object to load configuration from global.properties (per instance)
+    protected Properties p = new Properties();
+
+    // Pool the current driver was borrowed from (null when it was launched for this instance only)
+    private DriverPool pool = null;
+
+    // Request blocking attached to the current driver (null when off or unsupported)
+    private NetworkBlocker blocker = null;
 
-    // Properties object to load configuration from global.properties
-    protected static Properties p = new Properties();
+    // Test class the session was set up for: its @NetworkBlocking applies, its name labels the stats
+    private Class<?> testClass = getClass();
 
     /**
      * Setup method
      * ----------------------------
      * Loads configuration, initializes WebDriver, and opens the target URL.
+     * Calling it again first releases the session this instance already owns.
      */
     public void setup() throws IOException {
-        // Load configuration file from resources folder (src/main/resources)
-        try (InputStream is = getClass().getClassLoader().getResourceAsStream("global.properties")) {
-            if (is == null) {
-                throw new IOException("global.properties file not found in src/main/resources");
-            }
-            p.load(is);
+        setup(getClass());
+    }
+
+    /**
+     * Same as setup(), for a session owned by the given test class rather than by a subclass of BasePage
+     * (e.g. a "new BasePage()" per DataProvider row): that class's @NetworkBlocking is honoured.
+     */
+    public void setup(Class<?> testClass) throws IOException {
+        if (driver != null) {
+            finish();
         }
+        this.testClass = testClass;
 
-        // Read the browser name from global.properties (default = "chrome")
-        String browser = p.getProperty("browser", "chrome").toLowerCase();
+        // Load configuration file from resources folder (src/main/resources);
+        // in replay mode "url" already points at the local fixture server (see Config.load)
+        p = Config.load();
+        String fixtures = p.getProperty("fixtures.mode", "live").trim().toLowerCase();
 
-        // Initialize the correct WebDriver instance based on browser type
-        switch (browser) {
-            case "chrome":
-                // Selenium Manager automatically finds or downloads the ChromeDriver
-                driver = new ChromeDriver();
-                break;
-
-            case "firefox":
-                driver = new FirefoxDriver();
-                break;
-
-            default:
-                throw new IllegalArgumentException("Unsupported browser: " + browser);
+        // Wait engine for every page object (observer = in-page MutationObserver, polling = WebDriverWait)
+        SmartWaits.setDefaultMode(SmartWaits.Mode.valueOf(p.getProperty("waits.mode", "observer").trim().toUpperCase()));
+
+        if (Config.getBoolean(p, "pool.enabled", false)) {
+            // Warm session: already maximized and sitting on the start URL
+            pool = DriverPool.shared(p);
+            session = pool.borrow();
+            blocker = NetworkBlocker.apply(session, p, NetworkBlocker.enabledFor(testClass, p));
+            captureSearchApi();
+            driver = traced(session);
+            if ("record".equals(fixtures)) {
+                // The warm session loaded the start page before recording began: load it again
+                startRecording();
+                driver.get(p.getProperty("url"));
+            } else if ("replay".equals(fixtures)) {
+                // Make sure the warm session sits on the replayed start page, not a live one
+                driver.get(p.getProperty("url"));
+            }
+            return;
         }
 
-        // Set implicit wait timeout (replaces deprecated TimeUnit approach)
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+        // Initialize the correct WebDriver instance based on browser type
+        session = DriverFactory.create(p);
 
-        // Maximize browser window
-        driver.manage().window().maximize();
+        // Block images/fonts/trackers before the first page load (unless this class opts out)
+        blocker = NetworkBlocker.apply(session, p, NetworkBlocker.enabledFor(testClass, p));
+        captureSearchApi();
+        driver = traced(session);
+        if ("record".equals(fixtures)) {
+            startRecording();
+        }
 
         // Navigate to the target URL defined in the properties file
         driver.get(p.getProperty("url"));
     }
 
+    private WebDriver traced(WebDriver session) {
+        return Config.getBoolean(p, "trace.enabled", false) ? CommandTrace.decorate(session) : session;
+    }
+
+    private void captureSearchApi() {
+        // HotelsResult reads the results from the search API responses (SearchApiCapture) when results.source=api
+        if ("api".equalsIgnoreCase(p.getProperty("results.source", "dom").trim())) {
+            SearchApiCapture.attach(session, p);
+        }
+    }
+
+    private TrafficArchive archive() {
+        return TrafficArchive.open(Paths.get(p.getProperty("fixtures.archive", "src/test/resources/recordings/trivago")));
+    }
+
+    private void startRecording() {
+        Set<String> types = Set.of(p.getProperty("fixtures.record.types", "Document,Script,Stylesheet,XHR,Fetch").split("\\s*,\\s*"));
+        TrafficRecorder.attach(session, archive(), types);
+    }
+
+    /**
+     * Return the WebDriver owned by this instance.
+     *
+     * @throws IllegalStateException if setup() has not been called (or finish() already ran)
+     */
+    public WebDriver getDriver() {
+        if (driver == null) {
+            throw new IllegalStateException("No WebDriver session: call setup() first");
+        }
+        return driver;
+    }
+
+    /**
+     * True while this instance holds an open browser session.
+     */
+    public boolean hasDriver() {
+        return driver != null;
+    }
+
     /**
      * Finish method
      * ----------------------------
-     * Safely closes and quits the WebDriver instance.
+     * Safely closes and quits the WebDriver instance,
+     * or hands a pooled session back to the DriverPool for reuse.
      */
     public void finish() {
         if (driver != null) {
-            try {
-                driver.quit();  // Closes all browser windows and ends the session
-            } catch (Exception ignored) {
+            if (blocker != null) {
+                EventLog.info("network.blocked", testClass.getSimpleName() + " network blocking: " + blocker);
+                blocker = null;
+            }
+            if ("record".equalsIgnoreCase(p.getProperty("fixtures.mode", "live").trim())) {
+                TrafficArchive archive = archive();
+                archive.save();
+                EventLog.info("fixtures.recorded", "Recorded " + archive.size() + " responses into " + archive.dir());
+            }
+            if (pool != null) {
+                pool.release(session);   // reset + health check, evicted if broken
+                pool = null;
+            } else {
+                NetworkBlocker.forget(session);
+                TrafficRecorder.forget(session);
+                SearchApiCapture.forget(session);
+                DriverFactory.quit(session);  // Closes all browser windows, ends the session, drops the temp profile
             }
             driver = null;
+            session = null;
         }
     }
 }
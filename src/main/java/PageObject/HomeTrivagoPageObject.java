@@ -1,25 +1,35 @@
 package PageObject;
 
-import java.time.Duration;
-import java.util.Calendar;
-import java.util.List;
-import java.util.TimeZone;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import PageObject.helpers.DatePicker;
+import PageObject.helpers.ElementCache;
+import PageObject.helpers.Locators;
+import PageObject.helpers.OptionPicker;
+import PageObject.helpers.OptionPicker.TextMatch;
 import PageObject.helpers.SmartWaits;
+import PageObject.helpers.TestBudget;
 
 public class HomeTrivagoPageObject {
 
     private final WebDriver driver;
     private final SmartWaits waits;
+    private final ElementCache elements;
+    private final OptionPicker picker;
+    private final DatePicker datePicker;
 
     public HomeTrivagoPageObject(WebDriver driver) {
         this.driver = driver;
         // Inject SmartWaits AFTER driver is available
         this.waits = new SmartWaits(driver);
+        this.elements = new ElementCache(driver, waits, "HomeTrivagoPageObject");
+        this.picker = new OptionPicker(driver);
+        this.datePicker = new DatePicker(driver, waits, datepickerCss, buttonNextCss);
     }
 
     /* ===========================
@@ -28,25 +38,24 @@ public class HomeTrivagoPageObject {
 
     // Location field / autocomplete
     private final By location_id = By.id("horus-querytext");
-    private final By byNameLocator_span = By.tagName("span");
     private final By focus = By.className("btn-horus__value");
 
-    // Dropdown list (autocomplete results)
-    private final By containerResult = By.xpath("//*[@id='js-fullscreen-hero']/div/div[2]/form/div/div/div[1]/div[2]/div/div");
-    private final By byNameLocator_ul = By.tagName("ul");
-    private final By byNameLocator_li = By.tagName("li");
+    // Dropdown list (autocomplete results); simple XPaths are resolved as the equivalent CSS
+    private final By containerResult = Locators.xpath("//*[@id='js-fullscreen-hero']/div/div[2]/form/div/div/div[1]/div[2]/div/div");
+    private final String suggestionCss = "ul li";
+    private final String suggestionTextCss = "span";
 
     // Calendar / datepickers
-    private final By byNameLocator_td = By.tagName("td");
-    private final By datepickerTable = By.className("cal-month");
-    private final By buttonNext = By.className("cal-btn-next");
+    private final String datepickerCss = ".cal-month";
+    private final String buttonNextCss = ".cal-btn-next";
 
     // Room size
-    private final By containerMenuRoom = By.xpath("//*[@id='js-fullscreen-hero']/div/div[2]/form/div[2]");
+    private final By containerMenuRoom = Locators.xpath("//*[@id='js-fullscreen-hero']/div/div[2]/form/div[2]");
     private final By size = By.className("roomtype-btn__label");
+    private final String roomOptionCss = "li";
 
     // Search button
-    private final By searchButton = By.xpath("//*[@id='js-fullscreen-hero']/div/div[2]/form/div/div/div[3]/button");
+    private final By searchButton = Locators.xpath("//*[@id='js-fullscreen-hero']/div/div[2]/form/div/div/div[3]/button");
 
     /* ===========================
        Actions
@@ -56,139 +65,115 @@ public class HomeTrivagoPageObject {
      * Type a location and choose a suggestion from the dropdown.
      */
     public void imputLocation(String location) {
+        TestBudget.check("type location \"" + location + "\"");
         // Focus and type
-        waits.waitVisible(location_id, 10).click();
-        driver.findElement(location_id).clear();
-        driver.findElement(location_id).sendKeys(location);
+        elements.visible(location_id, 10).click();
+        elements.get(location_id).clear();
+        elements.get(location_id).sendKeys(location);
 
         // Select from autocomplete
         selectElementDropDownList(location);
     }
 
     /**
-     * Pick the first dropdown item that contains the given location text.
-     * Defensive against stale list structure and off-by-one errors.
+     * Pick the first dropdown item with a span that contains the given location text (any case).
+     * Matching runs in the browser in one call; fails fast if no suggestion matches.
+     *
+     * @throws org.openqa.selenium.NoSuchElementException if no suggestion contains the text
      */
     public void selectElementDropDownList(String location) {
-        WebElement resultsContainer = waits.waitVisible(containerResult, 10)
-                .findElement(byNameLocator_ul);
-
-        List<WebElement> items = resultsContainer.findElements(byNameLocator_li);
-
-        for (WebElement item : items) {
-            List<WebElement> spans = item.findElements(byNameLocator_span);
-            for (int i = 0; i < spans.size(); i++) {            // <--- fixed: i < size (not <=)
-                String text = spans.get(i).getText();
-                if (text != null && text.toLowerCase().contains(location.toLowerCase())) {
-                    item.click();
-                    return;                                      // Stop after selecting the match
-                }
-            }
-        }
-        // Optional: throw if nothing matched (helps tests fail fast with a clear reason)
-        // throw new IllegalStateException("No dropdown option contained: " + location);
+        WebElement resultsContainer = elements.visible(containerResult, 10);
+        picker.pick(resultsContainer, suggestionCss, suggestionTextCss, location, TextMatch.CONTAINS);
     }
 
     /**
      * Select today's date in the "check-in" calendar.
-     * If current time is after 18:00, it selects tomorrow (see getCurrentDay()).
+     * If current time is after 18:00, it selects tomorrow (see defaultCheckInDate()).
      */
     public void selectCheckInDate() {
-        WebElement calendarTable = waits.waitVisible(datepickerTable, 10);
-        List<WebElement> cells = calendarTable.findElements(byNameLocator_td);
-
-        String targetDay = getCurrentDay(); // today or tomorrow after 18:00
-        for (WebElement cell : cells) {
-            if (targetDay.equals(cell.getText())) {
-                cell.click();
-                return;
-            }
-        }
-        // If not found, you might want to click "next" and retry, depending on UI behavior.
-        // throw new IllegalStateException("Check-in day not found in current month: " + targetDay);
+        selectCheckInDate(defaultCheckInDate());
     }
 
     /**
-     * Select check-out date by moving N months forward (clicking the “next” arrow),
-     * then picking the same day-of-month as returned by getCurrentDay().
+     * Select the given check-in date, moving the calendar forward if needed.
+     */
+    public void selectCheckInDate(LocalDate checkIn) {
+        datePicker.select(checkIn);
+    }
+
+    /**
+     * Select check-out date N months after the default check-in date
+     * (same day-of-month, clamped to the month's last day).
      *
-     * @param numberOfMonths how many months to move forward before selecting the day
+     * @param numberOfMonths how many months after check-in to select the day
      */
     public void selectCheckOutDate(int numberOfMonths) {
-        // Move forward N months if needed
-        for (int m = 0; m < numberOfMonths; m++) {
-            WebElement next = waits.waitVisible(buttonNext, 10);
-            if (next.isDisplayed()) {
-                next.click();
-                // small stability wait to allow calendar to re-render
-                try { Thread.sleep(150); } catch (InterruptedException ignored) {}
-            }
-        }
-
-        WebElement calendarTable = waits.waitVisible(datepickerTable, 10);
-        List<WebElement> cells = calendarTable.findElements(byNameLocator_td);
+        selectCheckOutDate(defaultCheckInDate().plusMonths(numberOfMonths));
+    }
 
-        String targetDay = getCurrentDay();
-        for (WebElement cell : cells) {
-            if (targetDay.equals(cell.getText())) {
-                cell.click();
-                return;
-            }
-        }
-        // throw new IllegalStateException("Check-out day not found after moving " + numberOfMonths + " months.");
+    /**
+     * Select the given check-out date, moving the calendar forward if needed.
+     */
+    public void selectCheckOutDate(LocalDate checkOut) {
+        datePicker.select(checkOut);
     }
 
     /**
-     * Compute the label for "today" unless it's after 18:00 local time;
-     * in that case, returns "tomorrow" (day-of-month as String).
+     * Select a whole stay; month and year rollovers are handled by the date picker.
      */
-    private String getCurrentDay() {
-        Calendar calendar = Calendar.getInstance(TimeZone.getDefault());
-        int hour = calendar.get(Calendar.HOUR_OF_DAY);
-
-        if (hour > 18) {
-            return getDayPlus(1); // tomorrow
-        } else {
-            return Integer.toString(calendar.get(Calendar.DAY_OF_MONTH));
+    public void selectDates(LocalDate checkIn, LocalDate checkOut) {
+        if (!checkOut.isAfter(checkIn)) {
+            throw new IllegalArgumentException("Check-out " + checkOut + " must be after check-in " + checkIn);
         }
+        selectCheckInDate(checkIn);
+        selectCheckOutDate(checkOut);
     }
 
     /**
-     * Day-of-month after adding N days (used for “tomorrow” logic).
-     * NOTE: despite the old name in your version, this is days, not months.
+     * Today, unless it's after 18:00 local time; in that case, tomorrow.
      */
-    private String getDayPlus(int days) {
-        Calendar calendar = Calendar.getInstance(TimeZone.getDefault());
-        calendar.add(Calendar.DAY_OF_MONTH, days);
-        return Integer.toString(calendar.get(Calendar.DAY_OF_MONTH));
+    public static LocalDate defaultCheckInDate() {
+        LocalDateTime now = LocalDateTime.now();
+        return now.getHour() > 18 ? now.toLocalDate().plusDays(1) : now.toLocalDate();
     }
 
     /**
-     * Select the desired room size from the room menu container.
+     * Select the desired room size from the room menu container (same text, any case).
+     *
+     * @throws org.openqa.selenium.NoSuchElementException if the menu has no such room size
      */
     public void selectRoomSize(String sizeDescription) {
-        WebElement menu = waits.waitVisible(containerMenuRoom, 10);
-        List<WebElement> options = menu.findElements(byNameLocator_li);
-
-        for (WebElement option : options) {
-            String text = option.getText();
-            if (text != null && text.trim().equalsIgnoreCase(sizeDescription.trim())) {
-                option.click();
-                return;
-            }
-        }
-        // throw new IllegalStateException("Room size not found: " + sizeDescription);
+        WebElement menu = elements.visible(containerMenuRoom, 10);
+        picker.pick(menu, roomOptionCss, null, sizeDescription, TextMatch.IGNORE_CASE);
     }
 
     /**
      * Click the Search button (returns true if clicked).
      */
     public boolean searchButton() {
-        WebElement btn = waits.waitVisible(searchButton, 10);
+        WebElement btn = elements.visible(searchButton, 10);
         if (btn.isDisplayed() && btn.isEnabled()) {
+            TestBudget.check("click Search");
             btn.click();
             return true;
         }
         return false;
     }
+
+    /**
+     * Full UI search (location, dates, room type, Search button) for the given request.
+     * Use it when the form itself is under test; otherwise HotelsResult.open() is much cheaper.
+     *
+     * @return the results page, once the result list is visible
+     */
+    public HotelsResult search(SearchRequest request) {
+        TestBudget.check("search " + request);
+        imputLocation(request.location());
+        selectDates(request.checkIn(), request.checkOut());
+        selectRoomSize(request.roomType().description());
+        if (!searchButton()) {
+            throw new IllegalStateException("Search button was not clicked / not visible");
+        }
+        return new HotelsResult(driver).waitForResults();
+    }
 }
@@ -0,0 +1,35 @@
+package PageObject;
+
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One hotel card from the results list.
+ *
+ * @param position 1-based position of the card in the list
+ * @param name     hotel name (the card's h3)
+ * @param price    price label as rendered (e.g. "€95"), empty when the card shows none
+ * @param rating   rating score, or null when the card shows none
+ */
+public record HotelCard(int position, String name, String price, Double rating) {
+
+    // First amount of the label: digits with optional thousands groups ("1,234", "1.234", no-break space), decimals dropped
+    private static final Pattern AMOUNT = Pattern.compile("\\d{1,3}(?:[.,\\u00A0\\u202F]\\d{3})+(?!\\d)|\\d+");
+
+    /**
+     * First price of the label as a whole number (currency symbols and thousands separators stripped),
+     * if the card has one: "€1,234" is 1234, and a range such as "€120 – €150" gives 120.
+     */
+    public OptionalInt priceAmount() {
+        Matcher amount = AMOUNT.matcher(price == null ? "" : price);
+        if (!amount.find()) {
+            return OptionalInt.empty();
+        }
+        try {
+            return OptionalInt.of(Integer.parseInt(amount.group().replaceAll("\\D", "")));
+        } catch (NumberFormatException e) {
+            return OptionalInt.empty();
+        }
+    }
+}
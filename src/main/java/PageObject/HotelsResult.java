@@ -1,87 +1,299 @@
 package PageObject;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import PageObject.helpers.DomVersion;
+import PageObject.helpers.ElementCache;
+import PageObject.helpers.EventLog;
+import PageObject.helpers.Locators;
+import PageObject.helpers.ResultExtractor;
+import PageObject.helpers.ResultPager;
+import PageObject.helpers.ResultSnapshot;
+import PageObject.helpers.SearchApiCapture;
 import PageObject.helpers.SmartWaits;
+import PageObject.helpers.TestBudget;
 
 public class HotelsResult {
 
     private final WebDriver driver;
     private final SmartWaits waits;
+    private final ElementCache elements;
+    private final ResultExtractor extractor;
+    private final DomVersion resultsVersion;
+
+    // Last extraction of the result list, valid while the container's DOM version is unchanged
+    private ResultSnapshot snapshot;
+    private String snapshotVersion;
+    private int extractions;
+
+    // Walk over the further result pages, started on demand; dropped whenever the snapshot is rebuilt
+    private ResultPager pager;
+
+    // Search API responses of this session (results.source=api), null when the list is only scraped from the DOM
+    private final SearchApiCapture api;
+    // Payloads up to this sequence predate the last results-changing action; the one the snapshot was built from
+    private long apiFloor;
+    private long snapshotPayload = -1;
 
     public HotelsResult(WebDriver driver) {
         this.driver = driver;
         this.waits = new SmartWaits(driver);
+        this.elements = new ElementCache(driver, waits, "HotelsResult");
+        this.extractor = new ResultExtractor(driver, cardCss, nameCss, priceCss, ratingCss);
+        this.resultsVersion = new DomVersion(driver, containerResult);
+        this.api = SearchApiCapture.of(driver);
     }
 
     /* ===========================
        Locators
        =========================== */
 
-    private final By containerResult     = By.xpath("//*[@id='main_content']/div[4]");
+    // Simple XPaths are resolved as the equivalent CSS (see Locators.xpath)
+    private final By containerResult     = Locators.xpath("//*[@id='main_content']/div[4]");
     private final By containerToolBar    = By.className("filter-toolbar");
-    private final By containerSuggestion = By.xpath(
+    private final By containerSuggestion = Locators.xpath(
             "//*[@id='page_wrapper']/section/div/div/ul/li[5]/div/div/section/div/div[1]/div/div/div[2]/div"
     );
     private final By containerFooter     = By.className("refinement-row__actions");
 
-    private final By byNameLocator_className = By.className("item__details");
+    // Result card fields (CSS, read in one script call by ResultExtractor)
+    private final String cardCss   = ".item__details";
+    private final String nameCss   = "h3";
+    private final String priceCss  = "[data-qa='recommended-price'], .item__best-price";
+    private final String ratingCss = "[data-qa='rating-score'], .item__rating";
+
+    // Result pages (a "next" control; without one the pager scrolls for more cards)
+    private final String nextPageCss = "[data-testid='next-result-page'], button[aria-label='Next page'], .pagination__next";
+    private final int maxResultPages = 20;
+    private final long pageTimeoutMillis = 15_000;
+
+    // Toolbar badge of the active filters, e.g. "(1) Filter", "(3) Filter"
+    private static final Pattern FILTER_BADGE = Pattern.compile("\\((\\d+)\\)\\s*Filter", Pattern.CASE_INSENSITIVE);
+
     private final By byNameLocator_li        = By.tagName("li");
-    private final By byNameLocator_H3        = By.tagName("h3");
     private final By byNameLocator_span      = By.tagName("span");
     private final By byNameLocator_id        = By.id("undefined-input");
 
-    private final By buttonDone  = By.xpath("//*[@id='page_wrapper']/section/div/div/ul/li[5]/div/div/section/div/footer/button[2]");
-    private final By buttonReset = By.xpath("//*[@id='page_wrapper']/section/div/div/ul/li[5]/div/div/section/div/footer/button[1]");
+    private final By buttonDone  = Locators.xpath("//*[@id='page_wrapper']/section/div/div/ul/li[5]/div/div/section/div/footer/button[2]");
+    private final By buttonReset = Locators.xpath("//*[@id='page_wrapper']/section/div/div/ul/li[5]/div/div/section/div/footer/button[1]");
 
     private final By logoName = By.id("js_navigation");
-    private final By lostFocus = By.xpath("//*[@id='js-fullscreen-hero']/div/div/2]/form/div/div/div[3]/button/span[2]/span");
+    private final By lostFocus = Locators.xpath("//*[@id='js-fullscreen-hero']/div/div[2]/form/div/div/div[3]/button/span[2]/span");
 
     /* ===========================
        Actions
        =========================== */
 
+    /**
+     * Fast path: open the results URL of a search directly, skipping the home-page form.
+     *
+     * @param baseUrl site root (the "url" entry of global.properties)
+     * @return the results page, once the result list is visible
+     */
+    public static HotelsResult open(WebDriver driver, SearchRequest request, String baseUrl) {
+        driver.get(request.toUrl(baseUrl));
+        return new HotelsResult(driver).waitForResults();
+    }
+
+    /**
+     * Wait until the result list is visible.
+     * With results.source=api, first wait for the search API response itself (the container may
+     * still show the previous list when it arrives).
+     */
+    public HotelsResult waitForResults() {
+        awaitApiResults(apiFloor);
+        elements.visible(containerResult, 25);
+        return this;
+    }
+
     /**
      * Return all hotel names currently listed (before/after filters).
      */
     public ArrayList<String> showResult() {
         ArrayList<String> nameHotelList = new ArrayList<>();
+        for (HotelCard card : snapshot().cards()) {
+            nameHotelList.add(card.name());
+        }
+        // One buffered event for the whole list (see EventLog), not a console line per card
+        EventLog.info("results.listed", nameHotelList.size() + " hotels: " + String.join(", ", nameHotelList));
+        return nameHotelList;
+    }
 
-        // Wait until the results container is visible
-        WebElement results = waits.waitVisible(containerResult, 15);
-
-        // Each result card contains an h3 with the hotel name
-        List<WebElement> cards = results.findElements(byNameLocator_className);
-        for (WebElement card : cards) {
-            WebElement h3 = card.findElement(byNameLocator_H3);
-            String name = h3.getText();
-            if (name != null && !name.isBlank()) {
-                System.out.println(name);
-                nameHotelList.add(name);
+    /**
+     * Return every result card (name, price, rating, position) read in a single script call.
+     * Falls back to walking the cards over WebDriver if the script cannot run.
+     */
+    public List<HotelCard> showResultCards() {
+        return snapshot().cards();
+    }
+
+    /**
+     * Indexed snapshot of the current result list (page 1).
+     * Re-extracted only when the results container changed since the last call
+     * (mutation inside it, re-render, navigation) or after applyFilter / cleanFilter.
+     * Once the pager has walked to later pages, the changes it causes itself (other cards in the
+     * container, payloads of later pages) keep the snapshot and the pages walked; only invalidate()
+     * or a navigation to another document drops them.
+     */
+    public ResultSnapshot snapshot() {
+        TestBudget.check("read result list");
+        SearchApiCapture.Payload payload = apiPayload();
+        if (payload != null) {
+            // Complete list straight from the search response: no DOM read at all
+            if (snapshot == null || (snapshotPayload != payload.sequence() && !walked())) {
+                dropPager();
+                snapshot = new ResultSnapshot(payload.cards());
+                snapshotPayload = payload.sequence();
+                snapshotVersion = null;
+                extractions++;
             }
+            return snapshot;
         }
-        return nameHotelList;
+        snapshotPayload = -1;
+        String version = resultsVersion.read();
+        if (snapshot != null && version != null && version.equals(snapshotVersion)) {
+            return snapshot;
+        }
+        if (snapshot != null && version != null && snapshotVersion != null && walked()
+                && DomVersion.samePage(version, snapshotVersion)) {
+            // The pager moved the container to a later page: page 1 and the pages walked stay valid
+            return snapshot;
+        }
+        // Wait until the results container is visible
+        WebElement results = elements.visible(containerResult, 15);
+        if (version == null) {
+            version = resultsVersion.read();
+        }
+        // Version is read before extracting: a change during extraction makes the next call re-extract
+        dropPager();
+        snapshot = new ResultSnapshot(extractor.read(results));
+        snapshotVersion = version;
+        extractions++;
+        return snapshot;
     }
 
     /**
-     * Verify that a given hotel name appears in the results after applying a filter.
+     * Cards as rendered on the page on screen, always scraped from the DOM (also with results.source=api).
      */
-    public boolean IsNameHotelList(String nameHotel, String nameFilter) {
-        boolean found = false;
-        for (String name : showResult()) {
-            if (name.contains(nameHotel)) {
-                System.out.println("The hotel searched is: '" + nameHotel + "' and it IS in the list. Filter: " + nameFilter);
-                found = true;
-                break;
+    public List<HotelCard> domResultCards() {
+        return extractor.read(elements.visible(containerResult, 15));
+    }
+
+    /**
+     * Compare the search API list with the rendered cards: every rendered hotel must be in the API list,
+     * and the first API entries (as many as are rendered) must be on the page.
+     *
+     * @return one line per difference; empty when both agree or when there is no API payload to compare
+     */
+    public List<String> crossCheckResults() {
+        SearchApiCapture.Payload payload = apiPayload();
+        if (payload == null) {
+            return List.of();
+        }
+        List<HotelCard> dom = domResultCards();
+        Set<String> apiNames = new HashSet<>();
+        for (HotelCard card : payload.cards()) {
+            apiNames.add(ResultSnapshot.normalize(card.name()));
+        }
+        Set<String> domNames = new HashSet<>();
+        List<String> differences = new ArrayList<>();
+        for (HotelCard card : dom) {
+            domNames.add(ResultSnapshot.normalize(card.name()));
+            if (!apiNames.contains(ResultSnapshot.normalize(card.name()))) {
+                differences.add("On the page, not in the API response: " + card.name());
+            }
+        }
+        for (HotelCard card : payload.cards().subList(0, Math.min(dom.size(), payload.cards().size()))) {
+            if (!domNames.contains(ResultSnapshot.normalize(card.name()))) {
+                differences.add("In the API response, not on the page: " + card.name());
             }
         }
+        return differences;
+    }
+
+    /**
+     * Drop the cached snapshot so the next lookup re-reads the result list.
+     */
+    public void invalidate() {
+        dropPager();
+        snapshot = null;
+        snapshotVersion = null;
+    }
+
+    /**
+     * Lazy stream over the cards of every result page, starting with the page on screen.
+     * Further pages are loaded only as the stream is consumed (the next one is prefetched);
+     * use it in try-with-resources, or with a short-circuiting operation such as anyMatch / findFirst.
+     * The prefetch drives the browser from another thread: do not use the driver or this page object
+     * until the stream is closed or fully consumed.
+     */
+    public Stream<HotelCard> allResultCards() {
+        return pager().cards();
+    }
+
+    /**
+     * Result pages walked so far (1 until a lookup or allResultCards() needed more).
+     */
+    public int resultPagesLoaded() {
+        return pager == null ? 1 : pager.pagesLoaded();
+    }
+
+    private ResultPager pager() {
+        // A snapshot rebuilt since the walk started (see snapshot()) drops the old pager
+        List<HotelCard> firstPage = snapshot().cards();
+        if (pager == null) {
+            pager = new ResultPager(driver, extractor, firstPage, containerResult,
+                    nextPageCss, maxResultPages, pageTimeoutMillis, true);
+        }
+        return pager;
+    }
+
+    private boolean walked() {
+        return pager != null && pager.pagesLoaded() > 1;
+    }
+
+    private void dropPager() {
+        if (pager != null) {
+            pager.settle();
+        }
+        pager = null;
+    }
+
+    /**
+     * Number of times the result list was actually read from the page.
+     */
+    public int extractions() {
+        return extractions;
+    }
+
+    /**
+     * Verify that a given hotel name appears in the results (on any result page) after applying a filter.
+     */
+    public boolean IsNameHotelList(String nameHotel, String nameFilter) {
+        ResultSnapshot current = snapshot();
+        // Exact (normalized) name first, then the substring index; the raw contains() keeps the old matching rule
+        boolean found = current.byName(nameHotel).stream().anyMatch(card -> card.name().contains(nameHotel))
+                || current.containing(nameHotel).stream().anyMatch(card -> card.name().contains(nameHotel));
         if (!found) {
-            System.out.println("The hotel searched is: '" + nameHotel + "' and it is NOT in the list. Filter: " + nameFilter);
+            // Not on the page on screen: walk the further pages, stopping at the first match
+            found = pager().find(card -> card.name().contains(nameHotel)).isPresent();
+        }
+        if (found) {
+            EventLog.info("results.hotelFound", "The hotel searched is: '" + nameHotel + "' and it IS in the list. Filter: " + nameFilter);
+        } else {
+            EventLog.info("results.hotelMissing", "The hotel searched is: '" + nameHotel + "' and it is NOT in the list. Filter: " + nameFilter);
         }
         return found;
     }
@@ -90,82 +302,175 @@ public class HotelsResult {
      * Apply a filter by typing into the filter input and selecting the suggestion.
      */
     public boolean applyFilter(String nameFilter) {
-        boolean openedSelector = false;
+        return applyFilters(List.of(nameFilter));
+    }
+
+    /**
+     * Apply several filters in one selector session: every suggestion is picked first, then the
+     * selector is closed once, so the result list re-renders once instead of once per filter.
+     *
+     * @return true if the selector opened, every filter was picked and the selector was closed
+     */
+    public boolean applyFilters(String... namesFilter) {
+        return applyFilters(List.of(namesFilter));
+    }
+
+    /**
+     * Same as applyFilters(String...).
+     */
+    public boolean applyFilters(Collection<String> namesFilter) {
+        if (namesFilter.isEmpty()) {
+            throw new IllegalArgumentException("No filter to apply");
+        }
+        invalidate();
 
         // Open the filter toolbar and click the "Select" span
-        WebElement toolbar = waits.waitVisible(containerToolBar, 10);
-        List<WebElement> spans = toolbar.findElements(byNameLocator_span);
-        for (WebElement span : spans) {
-            if ("Select".equalsIgnoreCase(span.getText())) {
-                if (span.isDisplayed()) {
-                    span.click();
-                    openedSelector = true;
-                }
-                break;
+        boolean openedSelector = clickToolbarLabel(label -> "Select".equalsIgnoreCase(label));
+
+        // Type and pick each filter; the selector stays open between picks
+        int picked = 0;
+        int typed = 0;
+        for (String nameFilter : namesFilter) {
+            WebElement input = elements.visible(byNameLocator_id, 10);
+            if (typed++ > 0) {
+                input.clear();
+            }
+            input.sendKeys(nameFilter);
+            if (clickItemInContainer(containerSuggestion, byNameLocator_li, nameFilter)) {
+                picked++;
             }
         }
 
-        // Type the filter text
-        waits.waitVisible(byNameLocator_id, 10).sendKeys(nameFilter);
-
-        // Pick the suggestion and return whether both steps succeeded
-        boolean picked = findElementInContainer(containerSuggestion, byNameLocator_li, nameFilter, lostFocus);
-        return openedSelector && picked;
+        // Close the selector once: a single re-render for all the filters
+        long mark = markApiResults();
+        boolean closed = picked > 0 && clickAction(lostFocus);
+        if (closed) {
+            awaitApiResults(mark);
+        }
+        return openedSelector && picked == namesFilter.size() && closed;
     }
 
     /**
      * Find an item inside a container and click it; then click an action button if present.
      */
     public boolean findElementInContainer(By nameContainer, By nameLocatorInContainer, String stringToFind, By buttonActions) {
-        WebElement container = waits.waitVisible(nameContainer, 10);
-        List<WebElement> items = container.findElements(nameLocatorInContainer);
-
-        for (WebElement item : items) {
-            String text = item.getText();
-            if (stringToFind.equals(text)) {
-                if (item.isDisplayed()) {
-                    item.click();
-
-                    // Click the provided action (e.g., lostFocus/button) if visible
-                    WebElement action = waits.waitVisible(buttonActions, 10);
-                    if (action.isDisplayed() && action.isEnabled()) {
-                        action.click();
+        return clickItemInContainer(nameContainer, nameLocatorInContainer, stringToFind) && clickAction(buttonActions);
+    }
 
-                        // Ensure results re-render before returning
-                        waits.waitVisible(containerResult, 25);
-                        return true;
-                    }
-                }
-                break;
+    /**
+     * Number of active filters shown on the toolbar ("(N) Filter"), 0 when none is applied.
+     */
+    public int appliedFilterCount() {
+        WebElement toolbar = elements.visible(containerToolBar, 10);
+        for (WebElement span : toolbar.findElements(byNameLocator_span)) {
+            Matcher badge = FILTER_BADGE.matcher(span.getText().trim());
+            if (badge.matches()) {
+                return Integer.parseInt(badge.group(1));
             }
         }
-        return false;
+        return 0;
     }
 
     /**
-     * Check whether "(1) Filter" label is visible on the toolbar.
+     * Check whether any filter is applied (the toolbar shows "(N) Filter" for some N).
      */
     public boolean isFilterApplied() {
-        WebElement toolbar = waits.waitVisible(containerToolBar, 10);
-        List<WebElement> spans = toolbar.findElements(byNameLocator_span);
-        for (WebElement span : spans) {
-            if ("(1) Filter".equalsIgnoreCase(span.getText())) {
-                System.out.println("Filter was applied");
-                return true;
-            }
+        int count = appliedFilterCount();
+        if (count > 0) {
+            EventLog.info("filter.applied", "Filter was applied (" + count + ")");
         }
-        return false;
+        return count > 0;
     }
 
     /**
-     * Reset the active filter (if any).
+     * Check whether exactly the given number of filters is applied.
+     */
+    public boolean isFilterApplied(int expectedCount) {
+        return appliedFilterCount() == expectedCount;
+    }
+
+    /**
+     * Reset every active filter (if any) in one step.
      */
     public boolean cleanFilter() {
+        invalidate();
         if (isFilterApplied()) {
-            // Click the "(1) Filter" badge then hit Reset
-            findElementInContainer(containerToolBar, byNameLocator_span, "(1) Filter", buttonReset);
-            waits.waitVisible(lostFocus, 10).click();
-            System.out.println("Filter reset");
+            // Click the "(N) Filter" badge then hit Reset
+            long mark = markApiResults();
+            clickToolbarLabel(label -> FILTER_BADGE.matcher(label.trim()).matches());
+            clickAction(buttonReset);
+            elements.visible(lostFocus, 10).click();
+            awaitApiResults(mark);
+            EventLog.info("filter.reset", "Filter reset");
+            return true;
+        }
+        return false;
+    }
+
+    /* ===========================
+       Internals
+       =========================== */
+
+    /**
+     * Before an action that reloads the results: responses received so far no longer describe the list.
+     */
+    private long markApiResults() {
+        if (api != null) {
+            apiFloor = api.mark();
+        }
+        return apiFloor;
+    }
+
+    private void awaitApiResults(long mark) {
+        if (api != null && api.awaitAfter(mark) == null) {
+            EventLog.info("results.api", "No search API response after the last action; reading the result list from the page");
+        }
+    }
+
+    /**
+     * Newest search API payload that is not older than the last results-changing action, or null.
+     */
+    private SearchApiCapture.Payload apiPayload() {
+        SearchApiCapture.Payload payload = api == null ? null : api.latest();
+        return payload != null && payload.sequence() > apiFloor ? payload : null;
+    }
+
+    private boolean clickToolbarLabel(Predicate<String> label) {
+        WebElement toolbar = elements.visible(containerToolBar, 10);
+        for (WebElement span : toolbar.findElements(byNameLocator_span)) {
+            if (label.test(span.getText())) {
+                if (span.isDisplayed()) {
+                    span.click();
+                    return true;
+                }
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean clickItemInContainer(By nameContainer, By nameLocatorInContainer, String stringToFind) {
+        WebElement container = elements.visible(nameContainer, 10);
+        for (WebElement item : container.findElements(nameLocatorInContainer)) {
+            if (stringToFind.equals(item.getText())) {
+                if (item.isDisplayed()) {
+                    item.click();
+                    return true;
+                }
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean clickAction(By buttonActions) {
+        // Click the provided action (e.g., lostFocus/button) if visible
+        WebElement action = elements.visible(buttonActions, 10);
+        if (action.isDisplayed() && action.isEnabled()) {
+            action.click();
+
+            // Ensure results re-render before returning
+            elements.visible(containerResult, 25);
             return true;
         }
         return false;
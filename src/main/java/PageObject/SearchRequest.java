@@ -0,0 +1,198 @@
+package PageObject;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * SearchRequest class.
+ * Typed description of a hotel search (location, stay, room type) that can be replayed either
+ * through the home-page form (HomeTrivagoPageObject.search) or straight as a results URL (toUrl).
+ *
+ * Build with SearchRequest.builder().location("Cork").checkIn(...).checkOut(...).roomType(RoomType.DOUBLE).build()
+ */
+public final class SearchRequest {
+
+    /**
+     * Results URL, relative to the site root. Placeholders: {location} {checkIn} {checkOut} {roomType}.
+     * Matches trivago's query-string search (sQuery + aDateRange[arr]/[dep] + iRoomType).
+     */
+    public static final String DEFAULT_TEMPLATE =
+            "?sQuery={location}&aDateRange%5Barr%5D={checkIn}&aDateRange%5Bdep%5D={checkOut}&iRoomType={roomType}";
+
+    /**
+     * Room types offered by the search form, with their label and URL id.
+     */
+    public enum RoomType {
+        SINGLE("Single room", 1),
+        DOUBLE("Double room", 7),
+        FAMILY("Family room", 9);
+
+        private final String description;
+        private final int id;
+
+        RoomType(String description, int id) {
+            this.description = description;
+            this.id = id;
+        }
+
+        public String description() {
+            return description;
+        }
+
+        public int id() {
+            return id;
+        }
+
+        /**
+         * Room type for a form label such as "Double room" (any case).
+         */
+        public static RoomType fromDescription(String description) {
+            for (RoomType type : values()) {
+                if (type.description.equalsIgnoreCase(description.trim())) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown room type: " + description);
+        }
+    }
+
+    private final String location;
+    private final LocalDate checkIn;
+    private final LocalDate checkOut;
+    private final RoomType roomType;
+
+    private SearchRequest(String location, LocalDate checkIn, LocalDate checkOut, RoomType roomType) {
+        this.location = location;
+        this.checkIn = checkIn;
+        this.checkOut = checkOut;
+        this.roomType = roomType;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String location() {
+        return location;
+    }
+
+    public LocalDate checkIn() {
+        return checkIn;
+    }
+
+    public LocalDate checkOut() {
+        return checkOut;
+    }
+
+    public RoomType roomType() {
+        return roomType;
+    }
+
+    /**
+     * Results URL for this search with the default template.
+     *
+     * @param baseUrl site root, e.g. "https://www.trivago.com/"
+     */
+    public String toUrl(String baseUrl) {
+        return toUrl(baseUrl, DEFAULT_TEMPLATE);
+    }
+
+    /**
+     * Results URL for this search with a custom template (see DEFAULT_TEMPLATE for the placeholders).
+     */
+    public String toUrl(String baseUrl, String template) {
+        String root = baseUrl.replaceAll("/+$", "") + "/";
+        return root + template
+                .replace("{location}", URLEncoder.encode(location, StandardCharsets.UTF_8))
+                .replace("{checkIn}", checkIn.toString())
+                .replace("{checkOut}", checkOut.toString())
+                .replace("{roomType}", Integer.toString(roomType.id()));
+    }
+
+    /**
+     * Stable identity of the search (same for equal requests), e.g. for caching fixtures.
+     */
+    public String key() {
+        return location.toLowerCase(Locale.ROOT) + "|" + checkIn + "|" + checkOut + "|" + roomType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SearchRequest && key().equals(((SearchRequest) o).key());
+    }
+
+    @Override
+    public int hashCode() {
+        return key().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "SearchRequest[" + location + ", " + checkIn + " -> " + checkOut + ", " + roomType.description() + "]";
+    }
+
+    /**
+     * Builder for SearchRequest. Defaults: default check-in date, one night, double room.
+     */
+    public static final class Builder {
+        private String location;
+        private LocalDate checkIn;
+        private LocalDate checkOut;
+        private RoomType roomType = RoomType.DOUBLE;
+        private Integer monthsStay;
+
+        private Builder() {
+        }
+
+        public Builder location(String location) {
+            this.location = location;
+            return this;
+        }
+
+        public Builder checkIn(LocalDate checkIn) {
+            this.checkIn = checkIn;
+            return this;
+        }
+
+        public Builder checkOut(LocalDate checkOut) {
+            this.checkOut = checkOut;
+            return this;
+        }
+
+        /**
+         * Check-out N months after check-in (the form's "numberOfMonths" parameter).
+         */
+        public Builder monthsStay(int numberOfMonths) {
+            this.checkOut = null;
+            this.monthsStay = numberOfMonths;
+            return this;
+        }
+
+        public Builder roomType(RoomType roomType) {
+            this.roomType = roomType;
+            return this;
+        }
+
+        public Builder roomType(String description) {
+            return roomType(RoomType.fromDescription(description));
+        }
+
+        public SearchRequest build() {
+            if (location == null || location.isBlank()) {
+                throw new IllegalArgumentException("location is required");
+            }
+            // Defaults go into locals so a reused builder still applies them to its later settings
+            LocalDate in = checkIn != null ? checkIn : HomeTrivagoPageObject.defaultCheckInDate();
+            LocalDate out = checkOut != null ? checkOut
+                    : monthsStay != null ? in.plusMonths(monthsStay) : in.plusDays(1);
+            if (!out.isAfter(in)) {
+                throw new IllegalArgumentException("Check-out " + out + " must be after check-in " + in);
+            }
+            Objects.requireNonNull(roomType, "roomType");
+            return new SearchRequest(location, in, out, roomType);
+        }
+    }
+}
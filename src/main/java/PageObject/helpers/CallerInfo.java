@@ -0,0 +1,57 @@
+package PageObject.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * CallerInfo utility class.
+ * Finds the page-object method (e.g. "HotelsResult.applyFilter") currently running on this thread,
+ * skipping the helpers package, so waits and commands can be attributed to a step.
+ */
+public final class CallerInfo {
+
+    private static final String PAGE_OBJECT_PACKAGE = "PageObject.";
+    private static final String HELPERS_PACKAGE = "PageObject.helpers.";
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private CallerInfo() {
+    }
+
+    /**
+     * Innermost page-object method on the stack, or "(test code)" when called from outside the page objects.
+     */
+    public static String pageObjectMethod() {
+        Optional<String> caller = WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(PAGE_OBJECT_PACKAGE) && !f.getClassName().startsWith(HELPERS_PACKAGE))
+                .findFirst()
+                .map(f -> simpleName(f.getClassName()) + "." + f.getMethodName()));
+        return caller.orElse("(test code)");
+    }
+
+    /**
+     * Every page-object method on the stack, outermost first (e.g. [HotelsResult.applyFilter,
+     * HotelsResult.findElementInContainer]); empty when called from outside the page objects.
+     */
+    public static List<String> pageObjectStack() {
+        List<String> stack = WALKER.walk(frames -> {
+            List<String> inner = new ArrayList<>();
+            frames.filter(f -> f.getClassName().startsWith(PAGE_OBJECT_PACKAGE) && !f.getClassName().startsWith(HELPERS_PACKAGE))
+                    .map(f -> simpleName(f.getClassName()) + "." + f.getMethodName())
+                    // Lambdas and overloads calling each other show up as repeated frames: keep one
+                    .forEach(name -> {
+                        if (inner.isEmpty() || !inner.get(inner.size() - 1).equals(name)) {
+                            inner.add(name);
+                        }
+                    });
+            return inner;
+        });
+        Collections.reverse(stack);
+        return stack;
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
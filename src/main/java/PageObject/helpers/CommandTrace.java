@@ -0,0 +1,204 @@
+package PageObject.helpers;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * CommandTrace class.
+ * Times every WebDriver / WebElement command sent through a decorated driver and attributes it to
+ * - the TestNG test running on the thread (set by a listener through setCurrentTest), and
+ * - the page-object methods on the stack (e.g. HotelsResult.applyFilter > HotelsResult.findElementInContainer).
+ *
+ * snapshot() gives one row per (test, step), the step being the outermost page-object method;
+ * folded() gives "test;step;...;command" stacks in microseconds, the input format of flamegraph.pl / speedscope.
+ */
+public final class CommandTrace implements WebDriverListener {
+
+    private static final CommandTrace LISTENER = new CommandTrace();
+    private static final String NO_TEST = "(no test)";
+    private static final String NO_STEP = "(test code)";
+
+    // Proxy plumbing that never reaches the browser
+    private static final Set<String> LOCAL_CALLS = Set.of(
+            "manage", "navigate", "switchTo", "timeouts", "window", "getWrappedDriver", "getWrappedElement",
+            "equals", "hashCode", "toString", "getDevTools", "maybeGetDevTools", "getCapabilities", "getSessionId");
+
+    private static final ThreadLocal<String> CURRENT_TEST = new ThreadLocal<>();
+    private static final ThreadLocal<Deque<Long>> STARTED = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private static final Map<String, Step> STEPS = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> FOLDED = new ConcurrentHashMap<>();
+
+    private CommandTrace() {
+    }
+
+    /**
+     * Wrap a driver so its commands are traced. Elements found through it are traced too.
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(LISTENER).decorate(driver);
+    }
+
+    public static void setCurrentTest(String test) {
+        CURRENT_TEST.set(test);
+    }
+
+    public static void clearCurrentTest() {
+        CURRENT_TEST.remove();
+    }
+
+    /* ===========================
+       Listener
+       =========================== */
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!LOCAL_CALLS.contains(method.getName())) {
+            STARTED.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(target, method, false);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(target, method, true);
+    }
+
+    private static void finish(Object target, Method method, boolean failed) {
+        if (LOCAL_CALLS.contains(method.getName())) {
+            return;
+        }
+        Long started = STARTED.get().poll();
+        if (started == null) {
+            return;
+        }
+        long nanos = System.nanoTime() - started;
+
+        String test = CURRENT_TEST.get() == null ? NO_TEST : CURRENT_TEST.get();
+        List<String> stack = CallerInfo.pageObjectStack();
+        String step = stack.isEmpty() ? NO_STEP : stack.get(0);
+        String command = commandName(target, method);
+
+        STEPS.computeIfAbsent(test + "\u0000" + step, k -> new Step(test, step)).record(command, nanos, failed);
+
+        StringBuilder folded = new StringBuilder(folded(test));
+        for (String frame : stack.isEmpty() ? List.of(NO_STEP) : stack) {
+            folded.append(';').append(folded(frame));
+        }
+        folded.append(';').append(folded(command));
+        FOLDED.computeIfAbsent(folded.toString(), k -> new LongAdder()).add(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /* ===========================
+       Results
+       =========================== */
+
+    /**
+     * One row per (test, step): commands, errors, totalMillis, maxMillis, byCommand (count per command).
+     * Sorted by total time, slowest first.
+     */
+    public static List<Map<String, Object>> snapshot() {
+        List<Step> steps = new ArrayList<>(STEPS.values());
+        steps.sort(Comparator.comparingLong((Step s) -> s.totalNanos.sum()).reversed());
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Step s : steps) {
+            rows.add(s.toRow());
+        }
+        return rows;
+    }
+
+    /**
+     * Folded stacks ("test;PageObject.method;...;command" -> microseconds), for flame graphs.
+     */
+    public static Map<String, Long> folded() {
+        Map<String, Long> stacks = new TreeMap<>();
+        FOLDED.forEach((stack, micros) -> stacks.put(stack, micros.sum()));
+        return stacks;
+    }
+
+    public static void reset() {
+        STEPS.clear();
+        FOLDED.clear();
+    }
+
+    private static String commandName(Object target, Method method) {
+        String type;
+        if (target instanceof WebElement) {
+            type = "WebElement";
+        } else if (target instanceof WebDriver) {
+            type = "WebDriver";
+        } else if (target instanceof Alert) {
+            type = "Alert";
+        } else {
+            type = method.getDeclaringClass().getSimpleName();
+        }
+        return type + "." + method.getName();
+    }
+
+    // Folded format: ';' separates frames and a space separates the value
+    private static String folded(String frame) {
+        return frame.replace(';', ',').replace(' ', '_');
+    }
+
+    private static final class Step {
+        final String test;
+        final String step;
+        final LongAdder commands = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+        final Map<String, LongAdder> byCommand = new ConcurrentHashMap<>();
+
+        Step(String test, String step) {
+            this.test = test;
+            this.step = step;
+        }
+
+        void record(String command, long nanos, boolean failed) {
+            commands.increment();
+            if (failed) {
+                errors.increment();
+            }
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            byCommand.computeIfAbsent(command, k -> new LongAdder()).increment();
+        }
+
+        Map<String, Object> toRow() {
+            Map<String, Long> counts = new TreeMap<>();
+            byCommand.forEach((command, n) -> counts.put(command, n.sum()));
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("test", test);
+            row.put("step", step);
+            row.put("commands", commands.sum());
+            row.put("errors", errors.sum());
+            row.put("totalMillis", TimeUnit.NANOSECONDS.toMillis(totalNanos.sum()));
+            row.put("maxMillis", TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+            row.put("byCommand", counts);
+            return row;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package PageObject.helpers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * Config utility class.
+ * Loads global.properties from the classpath and lets a matching -Dkey=value
+ * system property override any entry (handy for CI, e.g. -DthreadCount=4).
+ * In replay mode (fixtures.mode=replay) "url" is resolved here to the local replay server,
+ * so the driver pool, the listeners and every BasePage see the same start URL.
+ */
+public final class Config {
+
+    private static final String FILE_NAME = "global.properties";
+
+    private Config() {
+    }
+
+    /**
+     * Load a fresh copy of global.properties with system-property overrides applied.
+     * Every caller gets its own Properties object, so parallel test instances never share state.
+     */
+    public static Properties load() throws IOException {
+        Properties p = new Properties();
+        try (InputStream is = Config.class.getClassLoader().getResourceAsStream(FILE_NAME)) {
+            if (is == null) {
+                throw new IOException(FILE_NAME + " file not found in src/main/resources");
+            }
+            p.load(is);
+        }
+
+        // -Dkey=value wins over the file
+        for (String key : p.stringPropertyNames()) {
+            String override = System.getProperty(key);
+            if (override != null) {
+                p.setProperty(key, override);
+            }
+        }
+
+        // Replay mode: the "url" becomes the local fixture server (started once per JVM)
+        if ("replay".equalsIgnoreCase(p.getProperty("fixtures.mode", "live").trim())) {
+            TrafficArchive archive = TrafficArchive.open(Paths.get(p.getProperty("fixtures.archive", "src/test/resources/recordings/trivago")));
+            p.setProperty("url", ReplayServer.shared(archive, getInt(p, "fixtures.replayPort", 0)).startUrl());
+        }
+        return p;
+    }
+
+    /**
+     * Read an int entry, falling back to the default when missing or blank.
+     */
+    public static int getInt(Properties p, String key, int defaultValue) {
+        String value = p.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Property '" + key + "' is not a number: " + value, e);
+        }
+    }
+
+    /**
+     * Read a boolean entry, falling back to the default when missing or blank.
+     */
+    public static boolean getBoolean(Properties p, String key, boolean defaultValue) {
+        String value = p.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+}
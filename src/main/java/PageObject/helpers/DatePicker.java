@@ -0,0 +1,209 @@
+package PageObject.helpers;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * DatePicker component for the search-form calendar (".cal-month" tables, ".cal-btn-next" arrow).
+ *
+ * Selecting a date costs a handful of round trips whatever the distance:
+ *  1. one script reads the months on screen and returns the target cell if it is already visible;
+ *  2. otherwise one script clicks "next" as many times as needed, and we wait for the target
+ *     cell to appear (no fixed sleeps);
+ *  3. one more lookup returns the cell, which is clicked.
+ * If the calendar re-renders asynchronously and swallows clicks, it falls back to one click per month,
+ * waiting for the first month on screen to change rather than sleeping.
+ */
+public class DatePicker {
+
+    private static final int MAX_MONTHS_AHEAD = 24;
+    private static final Pattern HEADING = Pattern.compile("([A-Za-z]+)\\s+(\\d{4})");
+
+    // Runs in the browser: arguments = month css, ISO date, day-of-month, "month year" heading (lower case, English),
+    // year, month (1-12), blind. The heading also matches the month name in the page language (<html lang>);
+    // blind = match the day in the first month shown whatever its heading says.
+    // Returns the target cell (or null), the headings shown, and the first month node and text for change detection.
+    private static final String LOCATE_SCRIPT =
+            "var months = document.querySelectorAll(arguments[0]), shown = [];"
+          + "var iso = arguments[1], day = arguments[2], english = arguments[3], year = String(arguments[4]), blind = arguments[6], local = '';"
+          + "try { local = new Date(arguments[4], arguments[5] - 1, 1).toLocaleString(document.documentElement.lang || undefined, { month: 'long' }).toLowerCase(); } catch (e) {}"
+          + "function norm(s) { return (s || '').replace(/\\s+/g, ' ').trim(); }"
+          + "function isTarget(h) { return h.indexOf(english) >= 0 || (local !== '' && h.indexOf(local) >= 0 && h.indexOf(year) >= 0); }"
+          + "var first = months.length ? months[0] : null, firstText = first ? norm(first.innerText) : '';"
+          + "for (var i = 0; i < months.length; i++) {"
+          + "  var m = months[i];"
+          + "  var head = m.querySelector('caption, .cal-heading-month');"
+          + "  var h = head ? norm(head.innerText).toLowerCase() : '';"
+          + "  shown.push(h);"
+          + "  var byDate = m.querySelector(\"[datetime='\" + iso + \"'], [data-date='\" + iso + \"']\");"
+          + "  if (byDate) return { cell: byDate, shown: shown, first: first, firstText: firstText };"
+          + "  if (!isTarget(h) && !(blind && i === 0)) continue;"
+          + "  var cells = m.querySelectorAll('td');"
+          + "  for (var j = 0; j < cells.length; j++) {"
+          + "    var c = cells[j], cls = c.className || '';"
+          + "    if (norm(c.innerText) === day && !/outside|other-month|disabled/.test(cls)) return { cell: c, shown: shown, first: first, firstText: firstText };"
+          + "  }"
+          + "}"
+          + "return { cell: null, shown: shown, first: first, firstText: firstText };";
+
+    // Runs in the browser: arguments = next-button css, number of clicks
+    private static final String ADVANCE_SCRIPT =
+            "for (var i = 0; i < arguments[1]; i++) {"
+          + "  var next = document.querySelector(arguments[0]);"
+          + "  if (!next) return i;"
+          + "  next.click();"
+          + "}"
+          + "return arguments[1];";
+
+    private final WebDriver driver;
+    private final SmartWaits waits;
+    private final String monthCss;
+    private final String nextCss;
+
+    public DatePicker(WebDriver driver, SmartWaits waits, String monthCss, String nextCss) {
+        this.driver = driver;
+        this.waits = waits;
+        this.monthCss = monthCss;
+        this.nextCss = nextCss;
+    }
+
+    /**
+     * Click the calendar cell for the given date, moving forward through the months if needed.
+     *
+     * @throws NoSuchElementException if the date is before the first month shown or cannot be found
+     */
+    public void select(LocalDate date) {
+        Objects.requireNonNull(date, "date");
+        TestBudget.check("select date " + date);
+        waits.waitVisible(By.cssSelector(monthCss), 10);
+
+        Located located = locate(date);
+        if (located.cell == null) {
+            YearMonth first = located.firstShown();
+            if (first == null) {
+                // No readable heading and no datetime cells: like the old picker, assume the calendar opens on
+                // the current month, step forward to the target month, then match the day in the month shown
+                long ahead = ChronoUnit.MONTHS.between(YearMonth.now(), YearMonth.from(date));
+                if (ahead < 0 || ahead > MAX_MONTHS_AHEAD) {
+                    throw new NoSuchElementException("Date " + date + " is not within " + MAX_MONTHS_AHEAD
+                            + " months from now, and the calendar headings cannot be read: " + located.shown);
+                }
+                stepTo(date, ahead);
+                located = locate(date);
+                if (located.cell == null) {
+                    located = locate(date, true);
+                }
+            } else {
+                long ahead = ChronoUnit.MONTHS.between(first, YearMonth.from(date));
+                if (ahead < 0) {
+                    throw new NoSuchElementException("Date " + date + " is before the first month shown (" + first + ")");
+                }
+                if (ahead > MAX_MONTHS_AHEAD) {
+                    throw new NoSuchElementException("Date " + date + " is more than " + MAX_MONTHS_AHEAD + " months ahead");
+                }
+                located = jumpTo(date, ahead);
+            }
+        }
+
+        if (located.cell == null) {
+            throw new NoSuchElementException("No calendar cell for " + date + ". Months shown: " + located.shown);
+        }
+        TestBudget.check("click date " + date);
+        located.cell.click();
+    }
+
+    /* ===========================
+       Internals
+       =========================== */
+
+    private Located jumpTo(LocalDate date, long ahead) {
+        // Clicking to the first shown month is enough when several months are visible
+        TestBudget.check("move calendar " + ahead + " months ahead");
+        ((JavascriptExecutor) driver).executeScript(ADVANCE_SCRIPT, nextCss, ahead);
+        try {
+            return waits.until(d -> {
+                Located now = locate(date);
+                return now.cell != null ? now : null;
+            }, 5);
+        } catch (TimeoutException e) {
+            // Renders were asynchronous and dropped clicks: continue from wherever we landed
+            stepTo(date, MAX_MONTHS_AHEAD);
+            return locate(date);
+        }
+    }
+
+    /**
+     * Click "next" one month at a time, waiting after each click for the first month on screen to change
+     * (another node, or the same node re-rendered with other content) or for the target cell to appear.
+     * Nothing here reads the heading, so it also works when the heading is missing or not in English.
+     * Stops early when the target cell shows up, otherwise after the given number of clicks.
+     */
+    private void stepTo(LocalDate date, long clicks) {
+        for (long m = 0; m < clicks; m++) {
+            Located now = locate(date);
+            if (now.cell != null) {
+                return;
+            }
+            waits.waitVisible(By.cssSelector(nextCss), 10).click();
+            waits.until(d -> {
+                Located after = locate(date);
+                return after.cell != null || after.first == null
+                        || !after.first.equals(now.first) || !after.firstText.equals(now.firstText);
+            }, 10);
+        }
+    }
+
+    private Located locate(LocalDate date) {
+        return locate(date, false);
+    }
+
+    private Located locate(LocalDate date, boolean blind) {
+        String heading = date.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH).toLowerCase() + " " + date.getYear();
+        Map<?, ?> result = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(LOCATE_SCRIPT, monthCss,
+                date.toString(), Integer.toString(date.getDayOfMonth()), heading, date.getYear(), date.getMonthValue(), blind);
+        Object cell = result.get("cell");
+        Object first = result.get("first");
+        @SuppressWarnings("unchecked")
+        List<String> shown = (List<String>) result.get("shown");
+        return new Located(cell instanceof WebElement ? (WebElement) cell : null, shown,
+                first instanceof WebElement ? (WebElement) first : null, String.valueOf(result.get("firstText")));
+    }
+
+    private record Located(WebElement cell, List<String> shown, WebElement first, String firstText) {
+
+        /**
+         * First month on screen, parsed from its "October 2026" style header (null if not parseable).
+         */
+        YearMonth firstShown() {
+            if (shown == null || shown.isEmpty()) {
+                return null;
+            }
+            Matcher m = HEADING.matcher(shown.get(0));
+            if (!m.find()) {
+                return null;
+            }
+            for (Month month : Month.values()) {
+                if (month.getDisplayName(TextStyle.FULL, Locale.ENGLISH).equalsIgnoreCase(m.group(1))) {
+                    return YearMonth.of(Integer.parseInt(m.group(2)), month);
+                }
+            }
+            return null;
+        }
+    }
+}
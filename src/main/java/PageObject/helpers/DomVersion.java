@@ -0,0 +1,72 @@
+package PageObject.helpers;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * DomVersion class.
+ * Cheap "has this part of the page changed?" check: a MutationObserver kept on the element
+ * counts child-list and text changes, and read() returns a token that changes whenever
+ * - a mutation happened inside the element,
+ * - the element was replaced by a new node (re-render), or
+ * - the document itself was replaced (navigation, page change).
+ * Attribute-only changes (lazy images, hover classes) do not count.
+ */
+public class DomVersion {
+
+    // Runs in the browser: arguments = using ("css selector" | "xpath"), value
+    private static final String VERSION_SCRIPT =
+            "var using = arguments[0], value = arguments[1];"
+          + "var el = using === 'xpath'"
+          + "  ? document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue"
+          + "  : document.querySelector(value);"
+          + "if (!el) return null;"
+          + "var all = window.__domVersions || (window.__domVersions = { page: Math.random().toString(36).slice(2), watched: {} });"
+          + "var key = using + ':' + value, s = all.watched[key];"
+          + "if (!s || s.el !== el) {"
+          + "  if (s) s.observer.disconnect();"
+          + "  s = all.watched[key] = { el: el, epoch: s ? s.epoch + 1 : 0, count: 0 };"
+          + "  s.observer = new MutationObserver(function () { s.count++; });"
+          + "  s.observer.observe(el, { childList: true, subtree: true, characterData: true });"
+          + "}"
+          + "return all.page + ':' + s.epoch + ':' + s.count;";
+
+    private final WebDriver driver;
+    private final String[] query;
+
+    public DomVersion(WebDriver driver, By locator) {
+        this.driver = driver;
+        this.query = SmartWaits.toQuery(locator);
+    }
+
+    /**
+     * Current version token of the element, or null when it is not on the page
+     * (or cannot be watched: no JavaScript, or a locator without CSS/XPath form).
+     * Two equal tokens mean nothing observable changed in between.
+     */
+    public String read() {
+        if (query == null || !(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+        try {
+            Object token = ((JavascriptExecutor) driver).executeScript(VERSION_SCRIPT, query[0], query[1]);
+            return token == null ? null : token.toString();
+        } catch (WebDriverException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether two tokens were read from the same document (the element may have changed in between).
+     */
+    public static boolean samePage(String version, String other) {
+        return page(version).equals(page(other));
+    }
+
+    private static String page(String version) {
+        int end = version.indexOf(':');
+        return end < 0 ? version : version.substring(0, end);
+    }
+}
@@ -0,0 +1,126 @@
+package PageObject.helpers;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * DriverFactory utility class.
+ * Launches a configured browser session (used by BasePage and by the DriverPool),
+ * applying the LaunchProfile selected by "launch.profile".
+ * With "grid.enabled=true" the session is a RemoteWebDriver on "grid.url", requested through the GridDispatcher.
+ */
+public final class DriverFactory {
+
+    // Throwaway profile dirs to delete when their session is quit
+    private static final Map<WebDriver, Path> USER_DATA_DIRS = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private DriverFactory() {
+    }
+
+    /**
+     * Start a new browser for the "browser" entry and the selected launch profile.
+     * The session has its window sized and its timeouts owned by SmartWaits, but has not navigated anywhere yet.
+     */
+    public static WebDriver create(Properties p) {
+        return create(p, LaunchProfile.selected(p));
+    }
+
+    /**
+     * Start a new browser with an explicit launch profile.
+     */
+    public static WebDriver create(Properties p, LaunchProfile profile) {
+        // Read the browser name from global.properties (default = "chrome")
+        String browser = p.getProperty("browser", "chrome").toLowerCase();
+        boolean remote = Config.getBoolean(p, "grid.enabled", false);
+        // Grid nodes manage their own profiles: a local dir would not exist on the node
+        Path userDataDir = remote ? null : profile.createUserDataDir();
+
+        WebDriver driver;
+        try {
+            switch (browser) {
+                case "chrome":
+                    // Selenium Manager automatically finds or downloads the ChromeDriver
+                    driver = remote
+                            ? remote(p, browser, profile.chromeOptions(null))
+                            : new ChromeDriver(profile.chromeOptions(userDataDir));
+                    break;
+
+                case "firefox":
+                    driver = remote
+                            ? remote(p, browser, profile.firefoxOptions(null))
+                            : new FirefoxDriver(profile.firefoxOptions(userDataDir));
+                    break;
+
+                default:
+                    throw new IllegalArgumentException("Unsupported browser: " + browser);
+            }
+        } catch (RuntimeException e) {
+            deleteQuietly(userDataDir);
+            throw e;
+        }
+        if (userDataDir != null) {
+            USER_DATA_DIRS.put(driver, userDataDir);
+        }
+
+        // No implicit wait: SmartWaits owns synchronization so explicit and implicit waits never stack
+        SmartWaits.ownTimeouts(driver);
+
+        // Maximize browser window unless the profile pins a size
+        if (profile.maximize()) {
+            driver.manage().window().maximize();
+        }
+        return driver;
+    }
+
+    /**
+     * Quit a session and delete its throwaway profile dir, ignoring errors from an already-dead browser.
+     */
+    public static void quit(WebDriver driver) {
+        try {
+            driver.quit();  // Closes all browser windows and ends the session
+        } catch (Exception ignored) {
+        }
+        deleteQuietly(USER_DATA_DIRS.remove(driver));
+    }
+
+    /**
+     * Grid session, queued by the GridDispatcher until a slot is free.
+     * Augmented so that DevTools (NetworkBlocker, TrafficRecorder) still works on Chrome nodes.
+     */
+    private static WebDriver remote(Properties p, String browser, Capabilities options) {
+        GridDispatcher dispatcher = GridDispatcher.shared(p);
+        URL url;
+        try {
+            url = new URL(dispatcher.gridUrl());
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid grid.url: " + dispatcher.gridUrl(), e);
+        }
+        return dispatcher.newSession(browser, () -> new Augmenter().augment(new RemoteWebDriver(url, options)));
+    }
+
+    private static void deleteQuietly(Path dir) {
+        if (dir == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(f -> f.toFile().delete());
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package PageObject.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * DriverPool class.
+ * Keeps warm browser sessions that test classes borrow in setup() and give back in finish(),
+ * so the browser launch cost is paid once per session instead of once per class.
+ *
+ * - At most "pool.max" sessions exist; extra borrowers wait up to "pool.borrowTimeoutSeconds".
+ * - prewarm() launches "pool.min" idle sessions ahead of time.
+ * - A returned session is reset (cookies, storage, extra windows, start URL) and health-checked;
+ *   broken sessions are quit and evicted instead of being handed out again.
+ */
+public final class DriverPool {
+
+    private static DriverPool shared;
+
+    private final Properties p;
+    private final String startUrl;
+    private final int minIdle;
+    private final int maxSize;
+    private final long borrowTimeoutMillis;
+
+    private final LinkedBlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+    private final Set<WebDriver> borrowed = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    private final Map<WebDriver, Integer> useCount = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Semaphore permits;
+    private final AtomicInteger live = new AtomicInteger();
+    private volatile boolean closed = false;
+
+    // Counters
+    private final LongAdder borrows = new LongAdder();
+    private final LongAdder reuses = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder borrowWaitNanos = new LongAdder();
+    private final AtomicLong maxBorrowWaitNanos = new AtomicLong();
+
+    public DriverPool(Properties p) {
+        this.p = p;
+        this.startUrl = p.getProperty("url");
+        this.maxSize = Config.getInt(p, "pool.max", 4);
+        this.minIdle = Math.min(Config.getInt(p, "pool.min", 0), maxSize);
+        this.borrowTimeoutMillis = TimeUnit.SECONDS.toMillis(Config.getInt(p, "pool.borrowTimeoutSeconds", 120));
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("pool.max must be >= 1, got " + maxSize);
+        }
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * JVM-wide pool, built from the first caller's configuration.
+     * Sessions still alive at JVM exit are quit by a shutdown hook.
+     */
+    public static synchronized DriverPool shared(Properties p) {
+        if (shared == null) {
+            shared = new DriverPool(p);
+            Runtime.getRuntime().addShutdownHook(new Thread(shared::shutdown, "driver-pool-shutdown"));
+        }
+        return shared;
+    }
+
+    /**
+     * The shared pool if one was created, otherwise null.
+     */
+    public static synchronized DriverPool sharedIfCreated() {
+        return shared;
+    }
+
+    /**
+     * Launch sessions in parallel until "pool.min" are idle (never exceeding "pool.max").
+     */
+    public void prewarm() {
+        int missing = minIdle - idle.size();
+        if (missing <= 0) {
+            return;
+        }
+        ExecutorService starter = Executors.newFixedThreadPool(missing);
+        try {
+            List<Future<?>> launches = new ArrayList<>();
+            for (int i = 0; i < missing; i++) {
+                launches.add(starter.submit(() -> {
+                    if (reserveSlot()) {
+                        idle.offer(launch());
+                    }
+                }));
+            }
+            for (Future<?> launch : launches) {
+                launch.get();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not prewarm driver pool", e);
+        } finally {
+            starter.shutdown();
+        }
+    }
+
+    /**
+     * Take a ready session (already on the start URL), launching one if none is idle.
+     *
+     * @throws TimeoutException if all "pool.max" sessions stay borrowed for "pool.borrowTimeoutSeconds"
+     */
+    public WebDriver borrow() {
+        if (closed) {
+            throw new IllegalStateException("Driver pool is shut down");
+        }
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new TimeoutException("No browser session free after " + borrowTimeoutMillis + " ms (pool.max=" + maxSize + ")");
+            }
+            WebDriver driver;
+            try {
+                driver = takeIdleOrLaunch(deadline);
+            } catch (RuntimeException | InterruptedException e) {
+                permits.release();
+                throw e;
+            }
+            recordBorrow(driver, System.nanoTime() - start);
+            return driver;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser session", e);
+        }
+    }
+
+    /**
+     * Give a session back: reset it and keep it if healthy, otherwise evict it.
+     */
+    public void release(WebDriver driver) {
+        if (driver == null || !borrowed.remove(driver)) {
+            return;
+        }
+        try {
+            if (!closed && resetAndCheck(driver)) {
+                idle.offerFirst(driver);   // LIFO: the warmest session is handed out next
+            } else {
+                evict(driver);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Drop a borrowed session that the caller knows is broken.
+     */
+    public void invalidate(WebDriver driver) {
+        if (driver != null && borrowed.remove(driver)) {
+            evict(driver);
+            permits.release();
+        }
+    }
+
+    /**
+     * Quit every idle session and refuse further borrows.
+     * Sessions still borrowed are quit too (a later release() just evicts them).
+     */
+    public void shutdown() {
+        closed = true;
+        WebDriver driver;
+        while ((driver = idle.poll()) != null) {
+            quitQuietly(driver);
+            live.decrementAndGet();
+        }
+        synchronized (borrowed) {
+            for (WebDriver inUse : borrowed) {
+                quitQuietly(inUse);
+            }
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(borrows.sum(), reuses.sum(), created.sum(), evicted.sum(),
+                TimeUnit.NANOSECONDS.toMillis(borrowWaitNanos.sum()),
+                TimeUnit.NANOSECONDS.toMillis(maxBorrowWaitNanos.get()),
+                live.get(), idle.size());
+    }
+
+    /* ===========================
+       Internals
+       =========================== */
+
+    private WebDriver takeIdleOrLaunch(long deadlineNanos) throws InterruptedException {
+        while (true) {
+            WebDriver driver = idle.pollFirst();
+            if (driver != null) {
+                return driver;
+            }
+            if (reserveSlot()) {
+                return launch();
+            }
+            // Every slot is alive (a prewarm or a release is in flight): wait for it to land
+            long remaining = deadlineNanos - System.nanoTime();
+            driver = idle.pollFirst(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+            if (driver != null) {
+                return driver;
+            }
+            if (System.nanoTime() >= deadlineNanos) {
+                throw new TimeoutException("No browser session became idle (pool.max=" + maxSize + ")");
+            }
+        }
+    }
+
+    private boolean reserveSlot() {
+        while (true) {
+            int current = live.get();
+            if (current >= maxSize) {
+                return false;
+            }
+            if (live.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private WebDriver launch() {
+        try {
+            WebDriver driver = DriverFactory.create(p);
+            driver.get(startUrl);
+            created.increment();
+            return driver;
+        } catch (RuntimeException e) {
+            live.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void recordBorrow(WebDriver driver, long waitedNanos) {
+        borrowed.add(driver);
+        borrows.increment();
+        borrowWaitNanos.add(waitedNanos);
+        maxBorrowWaitNanos.accumulateAndGet(waitedNanos, Math::max);
+        int uses = useCount.merge(driver, 1, Integer::sum);
+        if (uses > 1) {
+            reuses.increment();
+        }
+    }
+
+    /**
+     * Clear cookies and web storage, close extra windows, go back to the start URL,
+     * then check the session still answers commands.
+     */
+    private boolean resetAndCheck(WebDriver driver) {
+        try {
+            String main = driver.getWindowHandles().iterator().next();
+            for (String handle : driver.getWindowHandles()) {
+                if (!handle.equals(main)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(main);
+
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.get(startUrl);
+            // Cookies set by the page before we cleared them would survive otherwise
+            driver.manage().deleteAllCookies();
+
+            Object state = ((JavascriptExecutor) driver).executeScript("return document.readyState");
+            return state != null && driver.getWindowHandle() != null;
+        } catch (RuntimeException e) {
+            EventLog.info("pool.evicted", "Evicting broken browser session: " + e.getClass().getSimpleName());
+            return false;
+        }
+    }
+
+    private void evict(WebDriver driver) {
+        NetworkBlocker.forget(driver);
+        TrafficRecorder.forget(driver);
+        SearchApiCapture.forget(driver);
+        quitQuietly(driver);
+        useCount.remove(driver);
+        live.decrementAndGet();
+        evicted.increment();
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        DriverFactory.quit(driver);
+    }
+
+    /**
+     * Snapshot of the pool counters.
+     */
+    public record Stats(long borrows, long reuses, long created, long evicted,
+                        long totalBorrowWaitMillis, long maxBorrowWaitMillis, int live, int idle) {
+
+        @Override
+        public String toString() {
+            return "borrows=" + borrows + ", reuses=" + reuses + ", created=" + created + ", evicted=" + evicted
+                    + ", borrowWait(total/max ms)=" + totalBorrowWaitMillis + "/" + maxBorrowWaitMillis
+                    + ", live=" + live + ", idle=" + idle;
+        }
+    }
+}
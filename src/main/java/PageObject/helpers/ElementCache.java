@@ -0,0 +1,265 @@
+package PageObject.helpers;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+/**
+ * ElementCache class.
+ * Per page-object cache of resolved elements, so the same container or button is not searched
+ * for (and waited on) again every time an action needs it:
+ * - get(By) finds an element once; visible(By, seconds) re-checks a cached element with one
+ *   isDisplayed() call instead of a full wait,
+ * - returned elements are stale-safe: when the page re-renders the node, the next call on it
+ *   re-finds the element by its locator and retries once,
+ * - lookups, hits and stale refreshes are counted JVM-wide per (page object, locator).
+ * Not thread-safe on its own: like the page object that owns it, use it from one thread.
+ */
+public final class ElementCache {
+
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+    private final SmartWaits waits;
+    private final String owner;
+    private final Map<By, Handle> handles = new HashMap<>();
+
+    public ElementCache(WebDriver driver, SmartWaits waits, String owner) {
+        this.driver = driver;
+        this.waits = waits;
+        this.owner = owner;
+    }
+
+    /**
+     * The element for the locator, found once and reused (no wait).
+     *
+     * @throws org.openqa.selenium.NoSuchElementException if it is not on the page
+     */
+    public WebElement get(By locator) {
+        Entry entry = entry(locator);
+        Handle handle = handles.get(locator);
+        if (handle != null) {
+            entry.hit();
+            return handle.proxy;
+        }
+        entry.miss();
+        return store(locator, driver.findElement(locator)).proxy;
+    }
+
+    /**
+     * The element once visible: a cached element that is still attached and displayed is returned
+     * right away, otherwise this waits like SmartWaits.waitVisible and caches the result.
+     */
+    public WebElement visible(By locator, long seconds) {
+        Entry entry = entry(locator);
+        Handle handle = handles.get(locator);
+        if (handle != null && handle.displayed()) {
+            entry.hit();
+            return handle.proxy;
+        }
+        entry.miss();
+        return store(locator, waits.waitVisible(locator, seconds)).proxy;
+    }
+
+    /**
+     * Forget every cached element (e.g. after navigating to another page).
+     */
+    public void invalidate() {
+        handles.clear();
+    }
+
+    /**
+     * Forget one cached element.
+     */
+    public void invalidate(By locator) {
+        handles.remove(locator);
+    }
+
+    /**
+     * Snapshot of every (page object, locator) group, most lookups first.
+     */
+    public static List<Map<String, Object>> snapshot() {
+        List<Entry> entries = new ArrayList<>(ENTRIES.values());
+        entries.sort(Comparator.comparingLong((Entry e) -> e.lookups.sum()).reversed());
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Entry e : entries) {
+            rows.add(e.toMap());
+        }
+        return rows;
+    }
+
+    /**
+     * Totals per page object.
+     */
+    public static Map<String, Stats> totals() {
+        Map<String, Stats> totals = new LinkedHashMap<>();
+        for (Entry e : ENTRIES.values()) {
+            totals.merge(e.owner, e.stats(), Stats::plus);
+        }
+        return totals;
+    }
+
+    /**
+     * Forget everything recorded so far.
+     */
+    public static void reset() {
+        ENTRIES.clear();
+    }
+
+    /**
+     * Cache counters; hitRate is hits / lookups.
+     */
+    public record Stats(long lookups, long hits, long staleRefreshes) {
+
+        public double hitRate() {
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+
+        Stats plus(Stats other) {
+            return new Stats(lookups + other.lookups, hits + other.hits, staleRefreshes + other.staleRefreshes);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d lookups, %.0f%% hits, %d stale refreshes", lookups, hitRate() * 100, staleRefreshes);
+        }
+    }
+
+    /* ===========================
+       Internals
+       =========================== */
+
+    private Entry entry(By locator) {
+        return ENTRIES.computeIfAbsent(owner + "\u0000" + locator, k -> new Entry(owner, locator.toString()));
+    }
+
+    private Handle store(By locator, WebElement element) {
+        Handle handle = handles.get(locator);
+        if (handle == null) {
+            handle = new Handle(locator);
+            handles.put(locator, handle);
+        }
+        handle.current = unwrap(element);
+        return handle;
+    }
+
+    private static WebElement unwrap(WebElement element) {
+        // Never wrap one of our own proxies in another
+        while (Proxy.isProxyClass(element.getClass()) && Proxy.getInvocationHandler(element) instanceof Handle) {
+            element = ((Handle) Proxy.getInvocationHandler(element)).current;
+        }
+        return element;
+    }
+
+    /**
+     * One cached element: the proxy handed out stays the same, the element behind it is replaced when stale.
+     */
+    private final class Handle implements InvocationHandler {
+        private final By locator;
+        private final WebElement proxy;
+        private WebElement current;
+
+        Handle(By locator) {
+            this.locator = locator;
+            this.proxy = (WebElement) Proxy.newProxyInstance(ElementCache.class.getClassLoader(),
+                    new Class<?>[] { WebElement.class, WrapsElement.class }, this);
+        }
+
+        boolean displayed() {
+            try {
+                return current.isDisplayed();
+            } catch (WebDriverException e) {
+                return false;                  // stale or gone: resolve again
+            }
+        }
+
+        @Override
+        public Object invoke(Object self, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getWrappedElement":
+                    return current;
+                case "equals":
+                    return args[0] instanceof WebElement other && current.equals(unwrap(other));
+                case "hashCode":
+                    return current.hashCode();
+                case "toString":
+                    return "Cached {" + locator + " -> " + current + "}";
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(current, args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException)) {
+                    throw e.getCause();
+                }
+            }
+            // The node was re-rendered: find it again by its locator and retry once
+            current = unwrap(driver.findElement(locator));
+            entry(locator).staleRefresh();
+            try {
+                return method.invoke(current, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String owner;
+        private final String locator;
+        private final LongAdder lookups = new LongAdder();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder staleRefreshes = new LongAdder();
+
+        Entry(String owner, String locator) {
+            this.owner = owner;
+            this.locator = locator;
+        }
+
+        void hit() {
+            lookups.increment();
+            hits.increment();
+        }
+
+        void miss() {
+            lookups.increment();
+        }
+
+        void staleRefresh() {
+            staleRefreshes.increment();
+        }
+
+        Stats stats() {
+            return new Stats(lookups.sum(), hits.sum(), staleRefreshes.sum());
+        }
+
+        Map<String, Object> toMap() {
+            Stats stats = stats();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("owner", owner);
+            row.put("locator", locator);
+            row.put("lookups", stats.lookups());
+            row.put("hits", stats.hits());
+            row.put("staleRefreshes", stats.staleRefreshes());
+            row.put("hitRate", Math.round(stats.hitRate() * 1000) / 1000.0);
+            return row;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package PageObject.helpers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+
+/**
+ * EventLog class.
+ * Structured progress messages from page objects, buffered per thread:
+ * - between begin() and end() events only go into the calling thread's buffer (no console I/O,
+ *   no lock shared with other test threads); end() hands them back to be printed as one block,
+ * - outside begin()/end() (a page object used on its own) each event is printed right away.
+ * This keeps the output of parallel tests from interleaving line by line.
+ */
+public final class EventLog {
+
+    // Safety valve for a buffer nobody ends: older events are dropped past this size
+    private static final int MAX_EVENTS = 10_000;
+
+    private static final ThreadLocal<Buffer> BUFFER = new ThreadLocal<>();
+
+    private EventLog() {
+    }
+
+    /**
+     * One logged event.
+     */
+    public record Event(long epochMillis, String thread, String test, String name, String message) {
+
+        @Override
+        public String toString() {
+            return Instant.ofEpochMilli(epochMillis) + " [" + thread + "] " + name + ": " + message;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("time", Instant.ofEpochMilli(epochMillis).toString());
+            row.put("thread", thread);
+            row.put("test", test);
+            row.put("event", name);
+            row.put("message", message);
+            return row;
+        }
+    }
+
+    /**
+     * Start buffering this thread's events for the given test (a previous buffer is discarded).
+     */
+    public static void begin(String test) {
+        BUFFER.set(new Buffer(test));
+    }
+
+    /**
+     * Stop buffering and return the events logged since begin() (empty if begin() was not called).
+     */
+    public static List<Event> end() {
+        Buffer buffer = BUFFER.get();
+        BUFFER.remove();
+        return buffer == null ? List.of() : buffer.events;
+    }
+
+    /**
+     * Copy of the events buffered on this thread so far (empty outside begin()/end()).
+     */
+    public static List<Event> current() {
+        Buffer buffer = BUFFER.get();
+        return buffer == null ? List.of() : List.copyOf(buffer.events);
+    }
+
+    /**
+     * Log an event: buffered while a test is running on this thread, printed otherwise.
+     *
+     * @param name    short event name, e.g. "results.listed"
+     * @param message human-readable detail
+     */
+    public static void info(String name, String message) {
+        Buffer buffer = BUFFER.get();
+        Event event = new Event(System.currentTimeMillis(), Thread.currentThread().getName(),
+                buffer == null ? null : buffer.test, name, message);
+        if (buffer == null) {
+            System.out.println(event.message());
+            return;
+        }
+        if (buffer.events.size() >= MAX_EVENTS) {
+            buffer.events.remove(0);
+        }
+        buffer.events.add(event);
+    }
+
+    /**
+     * The events as one printable block (header line + one line per event).
+     */
+    public static String format(String title, List<Event> events) {
+        StringBuilder out = new StringBuilder("--- ").append(title).append(" (").append(events.size()).append(" events) ---\n");
+        for (Event event : events) {
+            out.append("  ").append(event.name()).append(": ").append(event.message()).append('\n');
+        }
+        return out.toString();
+    }
+
+    /**
+     * The events as JSON lines (one object per line).
+     */
+    public static String toJsonLines(List<Event> events) {
+        Json json = new Json();
+        StringBuilder out = new StringBuilder();
+        for (Event event : events) {
+            try (JsonOutput line = json.newOutput(out).setPrettyPrint(false)) {
+                line.write(event.toMap());
+            }
+            out.append('\n');
+        }
+        return out.toString();
+    }
+
+    private static final class Buffer {
+        private final String test;
+        private final List<Event> events = new ArrayList<>();
+
+        Buffer(String test) {
+            this.test = test;
+        }
+    }
+}
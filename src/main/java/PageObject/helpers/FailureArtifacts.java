@@ -0,0 +1,217 @@
+package PageObject.helpers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+/**
+ * FailureArtifacts class.
+ * Evidence of a failed test (screenshot, page source, browser console, buffered EventLog) without
+ * making the test thread wait for the disk:
+ * - capture() only asks the browser for the raw data (base64 screenshot, HTML, console entries),
+ * - decoding, gzip and the file writes run on a small bounded pool of daemon threads,
+ * - when the queue is full the capturing thread writes the artifact itself (back-pressure instead of
+ *   unbounded memory), which is counted in stats().
+ *
+ * Output: "artifacts.dir"/<test>/screenshot.png, page-source.html.gz, console.log.gz, events.jsonl.gz
+ */
+public final class FailureArtifacts {
+
+    private static FailureArtifacts shared;
+
+    private final Path dir;
+    private final ThreadPoolExecutor writers;
+    private final LongAdder captured = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder inline = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final AtomicLong captureNanos = new AtomicLong();
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public FailureArtifacts(Properties p) {
+        this.dir = Paths.get(p.getProperty("artifacts.dir", "target/failure-artifacts"));
+        int threads = Math.max(1, Config.getInt(p, "artifacts.writerThreads", 2));
+        int queue = Math.max(1, Config.getInt(p, "artifacts.queueSize", 8));
+        AtomicInteger ids = new AtomicInteger();
+        this.writers = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queue), r -> {
+            Thread t = new Thread(r, "artifact-writer-" + ids.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }, (task, pool) -> {
+            // Queue full: write on the capturing thread rather than buffering without limit
+            inline.increment();
+            if (!pool.isShutdown()) {
+                task.run();
+            }
+        });
+        this.writers.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * JVM-wide writer, built from the first caller's configuration.
+     */
+    public static synchronized FailureArtifacts shared(Properties p) {
+        if (shared == null) {
+            shared = new FailureArtifacts(p);
+        }
+        return shared;
+    }
+
+    /**
+     * The shared writer, or null when nothing was captured in this JVM.
+     */
+    public static synchronized FailureArtifacts sharedIfCreated() {
+        return shared;
+    }
+
+    /**
+     * Grab the raw artifacts of the driver's current page on the calling thread, and queue them for writing.
+     * Parts the browser cannot provide (no screenshot support, no console log) are skipped.
+     *
+     * @param test   directory name for this failure (sanitized)
+     * @param events buffered EventLog of the test (may be empty)
+     * @return the directory the artifacts will be written to
+     */
+    public Path capture(WebDriver driver, String test, List<EventLog.Event> events) {
+        long start = System.nanoTime();
+        String screenshot = null;
+        String source = null;
+        List<LogEntry> console = null;
+        String url = null;
+        if (driver != null) {
+            try {
+                url = driver.getCurrentUrl();
+            } catch (WebDriverException ignored) {
+                // page or session gone: keep whatever else can be read
+            }
+            if (driver instanceof TakesScreenshot) {
+                try {
+                    screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+                } catch (WebDriverException ignored) {
+                    // e.g. an open alert
+                }
+            }
+            try {
+                source = driver.getPageSource();
+            } catch (WebDriverException ignored) {
+                // session gone
+            }
+            try {
+                console = driver.manage().logs().get(LogType.BROWSER).getAll();
+            } catch (WebDriverException | UnsupportedOperationException ignored) {
+                // browser without a console log endpoint (e.g. Firefox)
+            }
+        }
+        captureNanos.addAndGet(System.nanoTime() - start);
+        captured.increment();
+
+        Path target = dir.resolve(sanitize(test) + "-" + System.currentTimeMillis() + "-" + sequence.incrementAndGet());
+        String rawScreenshot = screenshot;
+        String rawSource = url == null || source == null ? source : "<!-- " + url + " -->\n" + source;
+        List<LogEntry> rawConsole = console;
+        writers.execute(() -> write(target, rawScreenshot, rawSource, rawConsole, events));
+        return target;
+    }
+
+    /**
+     * Wait (at most timeoutSeconds) for the queued writes to finish and stop the writer threads.
+     */
+    public boolean close(long timeoutSeconds) {
+        writers.shutdown();
+        try {
+            return writers.awaitTermination(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public Path dir() {
+        return dir;
+    }
+
+    public Stats stats() {
+        long n = captured.sum();
+        return new Stats(n, written.sum(), failed.sum(), inline.sum(), bytes.sum(),
+                n == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(captureNanos.get() / n));
+    }
+
+    /**
+     * Counters; inlineWrites = writes done by the capturing thread because the queue was full.
+     */
+    public record Stats(long captured, long written, long failed, long inlineWrites, long bytesWritten, long avgCaptureMillis) {
+
+        @Override
+        public String toString() {
+            return String.format("%d captured (avg %d ms on the test thread), %d written, %d failed, %d written inline, %d KiB",
+                    captured, avgCaptureMillis, written, failed, inlineWrites, bytesWritten / 1024);
+        }
+    }
+
+    /* ===========================
+       Internals
+       =========================== */
+
+    private void write(Path target, String screenshot, String source, List<LogEntry> console, List<EventLog.Event> events) {
+        try {
+            Files.createDirectories(target);
+            if (screenshot != null) {
+                // PNG is already compressed
+                byte[] png = Base64.getDecoder().decode(screenshot);
+                Files.write(target.resolve("screenshot.png"), png);
+                bytes.add(png.length);
+            }
+            if (source != null) {
+                gzip(target.resolve("page-source.html.gz"), source);
+            }
+            if (console != null && !console.isEmpty()) {
+                StringBuilder log = new StringBuilder();
+                for (LogEntry entry : console) {
+                    log.append(entry).append('\n');
+                }
+                gzip(target.resolve("console.log.gz"), log.toString());
+            }
+            if (events != null && !events.isEmpty()) {
+                gzip(target.resolve("events.jsonl.gz"), EventLog.toJsonLines(events));
+            }
+            written.increment();
+        } catch (IOException | UncheckedIOException e) {
+            failed.increment();
+            System.out.println("Could not write failure artifacts to " + target + ": " + e.getMessage());
+        }
+    }
+
+    private void gzip(Path file, String text) throws IOException {
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        bytes.add(Files.size(file));
+    }
+
+    private static String sanitize(String name) {
+        String safe = name.replaceAll("[^A-Za-z0-9._-]+", "_");
+        return safe.length() > 120 ? safe.substring(0, 120) : safe;
+    }
+}
@@ -0,0 +1,275 @@
+package PageObject.helpers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+/**
+ * GridDispatcher class.
+ * Hands out Selenium Grid sessions only when the grid has a free slot for the browser,
+ * so extra test classes queue here instead of failing on the grid's session-creation timeout.
+ *
+ * - Free slots are read from the grid's /status endpoint (slots without a session on UP nodes),
+ *   minus the sessions this JVM is already creating.
+ * - Requests for the same browser are served first-come first-served; each waits at most "grid.queueTimeoutSeconds".
+ * - A session request the grid still rejects (lost a race with another client) is queued again.
+ * - Queue wait and session-creation latency are recorded per browser (see stats()).
+ */
+public final class GridDispatcher {
+
+    private static GridDispatcher shared;
+
+    private final String gridUrl;
+    private final long queueTimeoutNanos;
+    private final long pollMillis;
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Json json = new Json();
+
+    private final Map<String, Semaphore> turns = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> pending = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public GridDispatcher(Properties p) {
+        this.gridUrl = stripSlash(p.getProperty("grid.url", "http://localhost:4444"));
+        this.queueTimeoutNanos = TimeUnit.SECONDS.toNanos(Config.getInt(p, "grid.queueTimeoutSeconds", 600));
+        this.pollMillis = Config.getInt(p, "grid.pollMillis", 1000);
+    }
+
+    /**
+     * JVM-wide dispatcher, built from the first caller's configuration.
+     */
+    public static synchronized GridDispatcher shared(Properties p) {
+        if (shared == null) {
+            shared = new GridDispatcher(p);
+        }
+        return shared;
+    }
+
+    /**
+     * The shared dispatcher, or null when no grid session was requested in this JVM.
+     */
+    public static synchronized GridDispatcher sharedIfCreated() {
+        return shared;
+    }
+
+    public String gridUrl() {
+        return gridUrl;
+    }
+
+    /**
+     * Wait for a free slot for the browser, then run launch (a RemoteWebDriver constructor) in it.
+     *
+     * @throws TimeoutException when no slot frees up within "grid.queueTimeoutSeconds"
+     * @throws SessionNotCreatedException when no grid node offers the browser at all
+     */
+    public WebDriver newSession(String browser, Supplier<WebDriver> launch) {
+        Counters c = counters.computeIfAbsent(browser, b -> new Counters());
+        Semaphore turn = turns.computeIfAbsent(browser, b -> new Semaphore(1, true));
+        AtomicInteger creating = pending.computeIfAbsent(browser, b -> new AtomicInteger());
+        c.requests.increment();
+
+        long queuedAt = System.nanoTime();
+        long deadline = queuedAt + queueTimeoutNanos;
+        while (true) {
+            // Only the head of the queue polls the grid; the others wait their turn in arrival order
+            acquire(turn, deadline, browser);
+            try {
+                awaitFreeSlot(browser, creating.get(), deadline);
+                creating.incrementAndGet();
+            } finally {
+                turn.release();
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                WebDriver driver = launch.get();
+                c.record(startedAt - queuedAt, System.nanoTime() - startedAt);
+                return driver;
+            } catch (SessionNotCreatedException e) {
+                c.retries.increment();
+                if (System.nanoTime() > deadline) {
+                    throw e;
+                }
+                sleep(pollMillis);
+            } finally {
+                creating.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Free and total slots per browser name as reported by the grid, or null when /status is unreachable.
+     */
+    public Map<String, Capacity> capacity() {
+        Map<?, ?> status;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(gridUrl + "/status"))
+                    .timeout(Duration.ofSeconds(5)).GET().build();
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return null;
+            }
+            status = json.toType(response.body(), Json.MAP_TYPE);
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        Map<String, Capacity> slots = new TreeMap<>();
+        Object value = status.get("value");
+        Object nodes = value instanceof Map ? ((Map<?, ?>) value).get("nodes") : null;
+        if (!(nodes instanceof List)) {
+            return slots;
+        }
+        for (Object node : (List<?>) nodes) {
+            Map<?, ?> n = (Map<?, ?>) node;
+            if (!"UP".equals(n.get("availability")) || !(n.get("slots") instanceof List)) {
+                continue;
+            }
+            for (Object slot : (List<?>) n.get("slots")) {
+                Map<?, ?> s = (Map<?, ?>) slot;
+                Object stereotype = s.get("stereotype");
+                Object name = stereotype instanceof Map ? ((Map<?, ?>) stereotype).get("browserName") : null;
+                if (name == null) {
+                    continue;
+                }
+                boolean free = s.get("session") == null;
+                slots.merge(name.toString().toLowerCase(), new Capacity(free ? 1 : 0, 1), Capacity::plus);
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Queue / creation counters per browser name.
+     */
+    public Map<String, Stats> stats() {
+        Map<String, Stats> snapshot = new TreeMap<>();
+        counters.forEach((browser, c) -> snapshot.put(browser, c.snapshot()));
+        return snapshot;
+    }
+
+    /* ===========================
+       Internals
+       =========================== */
+
+    private void awaitFreeSlot(String browser, int alreadyCreating, long deadline) {
+        while (true) {
+            Map<String, Capacity> all = capacity();
+            if (all == null) {
+                // Status not available (older grid, proxy): let the grid's own queue decide
+                return;
+            }
+            Capacity slots = all.getOrDefault(browser.toLowerCase(), new Capacity(0, 0));
+            if (slots.total() == 0) {
+                throw new SessionNotCreatedException("Grid at " + gridUrl + " has no slots for browser '" + browser
+                        + "' (available: " + all.keySet() + ")");
+            }
+            if (slots.free() - alreadyCreating > 0) {
+                return;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new TimeoutException("No free '" + browser + "' slot on " + gridUrl + " after "
+                        + TimeUnit.NANOSECONDS.toSeconds(queueTimeoutNanos) + "s (" + slots + ")");
+            }
+            sleep(pollMillis);
+        }
+    }
+
+    private static void acquire(Semaphore turn, long deadline, String browser) {
+        try {
+            if (!turn.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                throw new TimeoutException("Timed out queueing for a '" + browser + "' grid session");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while queueing for a '" + browser + "' grid session", e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting for a grid slot", e);
+        }
+    }
+
+    private static String stripSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private static final class Counters {
+        final LongAdder requests = new LongAdder();
+        final LongAdder sessions = new LongAdder();
+        final LongAdder retries = new LongAdder();
+        final LongAdder queueNanos = new LongAdder();
+        final AtomicLong maxQueueNanos = new AtomicLong();
+        final LongAdder createNanos = new LongAdder();
+        final AtomicLong maxCreateNanos = new AtomicLong();
+
+        void record(long queued, long create) {
+            sessions.increment();
+            queueNanos.add(queued);
+            maxQueueNanos.accumulateAndGet(queued, Math::max);
+            createNanos.add(create);
+            maxCreateNanos.accumulateAndGet(create, Math::max);
+        }
+
+        Stats snapshot() {
+            long n = sessions.sum();
+            return new Stats(requests.sum(), n, retries.sum(),
+                    n == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(queueNanos.sum() / n),
+                    TimeUnit.NANOSECONDS.toMillis(maxQueueNanos.get()),
+                    n == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(createNanos.sum() / n),
+                    TimeUnit.NANOSECONDS.toMillis(maxCreateNanos.get()));
+        }
+    }
+
+    /**
+     * Slots for one browser across the UP nodes of the grid.
+     */
+    public record Capacity(int free, int total) {
+
+        Capacity plus(Capacity other) {
+            return new Capacity(free + other.free, total + other.total);
+        }
+    }
+
+    /**
+     * Snapshot of the counters for one browser.
+     */
+    public record Stats(long requests, long sessions, long retries,
+                        long avgQueueWaitMillis, long maxQueueWaitMillis,
+                        long avgCreateMillis, long maxCreateMillis) {
+
+        @Override
+        public String toString() {
+            return "requests=" + requests + ", sessions=" + sessions + ", retries=" + retries
+                    + ", queueWait(avg/max ms)=" + avgQueueWaitMillis + "/" + maxQueueWaitMillis
+                    + ", create(avg/max ms)=" + avgCreateMillis + "/" + maxCreateMillis;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package PageObject.helpers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+
+/**
+ * Named browser launch settings read from global.properties ("profile.&lt;name&gt;.&lt;setting&gt;").
+ *
+ * Settings (all optional):
+ *  - headless            true/false
+ *  - pageLoadStrategy    normal | eager | none
+ *  - windowSize          "maximized" or WIDTHxHEIGHT (e.g. 1920x1080)
+ *  - disableExtensions   true/false
+ *  - disableGpu          true/false
+ *  - tmpfsProfile        true/false: throwaway user-data dir under /dev/shm (falls back to the temp dir)
+ *
+ * The "default" profile (no entries) keeps the historical behaviour: headed, normal load, maximized.
+ */
+public record LaunchProfile(String name, boolean headless, PageLoadStrategy pageLoadStrategy, String windowSize,
+                            boolean disableExtensions, boolean disableGpu, boolean tmpfsProfile) {
+
+    public static final String DEFAULT = "default";
+
+    private static final Path TMPFS = Paths.get("/dev/shm");
+
+    /**
+     * Profile selected by "launch.profile" (default = "default").
+     */
+    public static LaunchProfile selected(Properties p) {
+        return named(p, p.getProperty("launch.profile", DEFAULT).trim());
+    }
+
+    /**
+     * Profile with the given name; unknown names are rejected so typos do not silently run headed.
+     */
+    public static LaunchProfile named(Properties p, String name) {
+        if (!DEFAULT.equals(name) && !names(p).contains(name)) {
+            throw new IllegalArgumentException("Unknown launch profile '" + name + "'. Known: " + names(p));
+        }
+        String prefix = "profile." + name + ".";
+        String strategy = p.getProperty(prefix + "pageLoadStrategy", "normal").trim().toUpperCase();
+        return new LaunchProfile(name,
+                Config.getBoolean(p, prefix + "headless", false),
+                PageLoadStrategy.valueOf(strategy),
+                p.getProperty(prefix + "windowSize", "maximized").trim(),
+                Config.getBoolean(p, prefix + "disableExtensions", false),
+                Config.getBoolean(p, prefix + "disableGpu", false),
+                Config.getBoolean(p, prefix + "tmpfsProfile", false));
+    }
+
+    /**
+     * Every profile name defined in the configuration, plus "default".
+     */
+    public static Set<String> names(Properties p) {
+        Set<String> names = new TreeSet<>();
+        names.add(DEFAULT);
+        for (String key : p.stringPropertyNames()) {
+            if (key.startsWith("profile.")) {
+                int end = key.indexOf('.', "profile.".length());
+                if (end > 0) {
+                    names.add(key.substring("profile.".length(), end));
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * True when the window should be maximized after launch instead of given a fixed size.
+     */
+    public boolean maximize() {
+        return "maximized".equalsIgnoreCase(windowSize);
+    }
+
+    public ChromeOptions chromeOptions(Path userDataDir) {
+        ChromeOptions options = new ChromeOptions();
+        options.setPageLoadStrategy(pageLoadStrategy);
+        if (headless) {
+            options.addArguments("--headless=new");
+        }
+        if (!maximize()) {
+            options.addArguments("--window-size=" + windowSize.toLowerCase().replace('x', ','));
+        }
+        if (disableExtensions) {
+            options.addArguments("--disable-extensions");
+        }
+        if (disableGpu) {
+            options.addArguments("--disable-gpu");
+        }
+        if (userDataDir != null) {
+            options.addArguments("--user-data-dir=" + userDataDir);
+        }
+        // Keep the browser console readable, for the failure artifacts of a failed test
+        LoggingPreferences logs = new LoggingPreferences();
+        logs.enable(LogType.BROWSER, Level.ALL);
+        options.setCapability(ChromeOptions.LOGGING_PREFS, logs);
+        return options;
+    }
+
+    public FirefoxOptions firefoxOptions(Path profileDir) {
+        FirefoxOptions options = new FirefoxOptions();
+        options.setPageLoadStrategy(pageLoadStrategy);
+        if (headless) {
+            options.addArguments("-headless");
+        }
+        if (!maximize()) {
+            String[] size = windowSize.toLowerCase().split("x");
+            options.addArguments("-width", size[0].trim(), "-height", size[1].trim());
+        }
+        if (disableExtensions) {
+            options.addPreference("extensions.enabledScopes", 0);
+        }
+        if (disableGpu) {
+            options.addPreference("layers.acceleration.disabled", true);
+        }
+        if (profileDir != null) {
+            options.addArguments("-profile", profileDir.toString());
+        }
+        return options;
+    }
+
+    /**
+     * Create the throwaway user-data dir for this profile, or return null when the profile does not use one.
+     */
+    public Path createUserDataDir() {
+        if (!tmpfsProfile) {
+            return null;
+        }
+        try {
+            Path base = Files.isDirectory(TMPFS) && Files.isWritable(TMPFS) ? TMPFS : Paths.get(System.getProperty("java.io.tmpdir"));
+            return Files.createTempDirectory(base, "trivago-profile-");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package PageObject.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.By;
+
+/**
+ * Locators utility class.
+ * Compiles simple absolute XPaths into equivalent CSS selectors, which browsers resolve natively
+ * (and faster) instead of through the XPath engine:
+ *
+ *   //*[@id='main_content']/div[4]    ->  #main_content > div:nth-of-type(4)
+ *   //ul/li[5]//span[@class='x']      ->  ul > li:nth-of-type(5) span[class='x']
+ *
+ * Supported per step: a tag name or *, one leading position ([n]), and attribute predicates
+ * (@a='v', @a, contains(@a,'v'), starts-with(@a,'v')). Anything else (axes, text(), unions,
+ * positions after a filter, relative paths) keeps the original XPath.
+ */
+public final class Locators {
+
+    private static final Pattern NAME = Pattern.compile("\\*|[A-Za-z_][\\w-]*");
+    private static final Pattern POSITION = Pattern.compile("\\d+");
+    private static final Pattern EQUALS = Pattern.compile("@([A-Za-z_][\\w-]*)\\s*=\\s*(?:'([^']*)'|\"([^\"]*)\")");
+    private static final Pattern PRESENT = Pattern.compile("@([A-Za-z_][\\w-]*)");
+    private static final Pattern FUNCTION = Pattern.compile(
+            "(contains|starts-with)\\(\\s*@([A-Za-z_][\\w-]*)\\s*,\\s*(?:'([^']*)'|\"([^\"]*)\")\\s*\\)");
+    private static final Pattern CSS_IDENT = Pattern.compile("-?[A-Za-z_][\\w-]*");
+
+    private Locators() {
+    }
+
+    /**
+     * By.cssSelector for the XPath when it can be compiled, otherwise By.xpath unchanged.
+     */
+    public static By xpath(String xpath) {
+        String css = toCss(xpath);
+        return css != null ? By.cssSelector(css) : By.xpath(xpath);
+    }
+
+    /**
+     * Same as xpath(String) for an existing locator; non-XPath locators are returned as they are.
+     */
+    public static By compile(By locator) {
+        String[] query = SmartWaits.toQuery(locator);
+        if (query == null || !"xpath".equals(query[0])) {
+            return locator;
+        }
+        return xpath(query[1]);
+    }
+
+    /**
+     * The equivalent CSS selector, or null when the XPath uses anything CSS cannot express.
+     */
+    public static String toCss(String xpath) {
+        String path = xpath.trim();
+        if (!path.startsWith("/")) {
+            return null;                       // relative to a context node: "span" is a child, not a descendant
+        }
+        StringBuilder css = new StringBuilder();
+        int pos = 0;
+        boolean first = true;
+        while (pos < path.length()) {
+            String combinator;
+            if (path.startsWith("//", pos)) {
+                combinator = " ";
+                pos += 2;
+            } else if (path.charAt(pos) == '/') {
+                combinator = " > ";
+                pos += 1;
+            } else {
+                return null;
+            }
+            int end = stepEnd(path, pos);
+            if (end < 0) {
+                return null;
+            }
+            String step = compileStep(path.substring(pos, end));
+            if (step == null) {
+                return null;
+            }
+            if (first) {
+                // "/html/..." is anchored at the document root; "//x" may match anywhere
+                css.append(" > ".equals(combinator) ? step + ":root" : step);
+                first = false;
+            } else {
+                css.append(combinator).append(step);
+            }
+            pos = end;
+        }
+        return first ? null : css.toString();
+    }
+
+    /* ===========================
+       Internals
+       =========================== */
+
+    private static int stepEnd(String path, int from) {
+        int depth = 0;
+        char quote = 0;
+        for (int i = from; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+            } else if (c == '/' && depth == 0) {
+                return i;
+            }
+        }
+        return depth == 0 && quote == 0 ? path.length() : -1;
+    }
+
+    private static String compileStep(String step) {
+        Matcher name = NAME.matcher(step);
+        if (!name.lookingAt()) {
+            return null;
+        }
+        String tag = name.group();
+        List<String> predicates = new ArrayList<>();
+        int pos = name.end();
+        while (pos < step.length()) {
+            if (step.charAt(pos) != '[') {
+                return null;
+            }
+            int end = matchingBracket(step, pos);
+            if (end < 0) {
+                return null;
+            }
+            predicates.add(step.substring(pos + 1, end).trim());
+            pos = end + 1;
+        }
+
+        StringBuilder css = new StringBuilder(tag);
+        for (int i = 0; i < predicates.size(); i++) {
+            String predicate = predicates.get(i);
+            Matcher m;
+            if (POSITION.matcher(predicate).matches()) {
+                // Only a leading position means "n-th child of that type"; after a filter it counts matches instead
+                if (i > 0) {
+                    return null;
+                }
+                css.append("*".equals(tag) ? ":nth-child(" : ":nth-of-type(").append(predicate).append(')');
+            } else if ((m = EQUALS.matcher(predicate)).matches()) {
+                String value = m.group(2) != null ? m.group(2) : m.group(3);
+                if ("id".equals(m.group(1)) && CSS_IDENT.matcher(value).matches()) {
+                    css.append('#').append(value);
+                } else {
+                    css.append('[').append(m.group(1)).append("='").append(escape(value)).append("']");
+                }
+            } else if ((m = FUNCTION.matcher(predicate)).matches()) {
+                String value = m.group(3) != null ? m.group(3) : m.group(4);
+                String operator = "contains".equals(m.group(1)) ? "*=" : "^=";
+                css.append('[').append(m.group(2)).append(operator).append('\'').append(escape(value)).append("']");
+            } else if ((m = PRESENT.matcher(predicate)).matches()) {
+                css.append('[').append(m.group(1)).append(']');
+            } else {
+                return null;
+            }
+        }
+        // "*#id" and "#id" are the same selector; keep the shorter one
+        return css.length() > 1 && tag.equals("*") && css.charAt(1) != ':' ? css.substring(1) : css.toString();
+    }
+
+    private static int matchingBracket(String step, int open) {
+        int depth = 0;
+        char quote = 0;
+        for (int i = open; i < step.length(); i++) {
+            char c = step.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("'", "\\'");
+    }
+}
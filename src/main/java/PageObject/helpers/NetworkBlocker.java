@@ -0,0 +1,202 @@
+package PageObject.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+
+/**
+ * NetworkBlocker class.
+ * Fails requests the assertions never need (images, fonts, analytics, ads...) through the
+ * Chrome DevTools "Fetch" domain, and counts what was blocked.
+ *
+ * Configured from global.properties:
+ *  - network.block.enabled        default switch (a test class can override it with @NetworkBlocking)
+ *  - network.block.urlPatterns    comma separated, "*" wildcards (e.g. *google-analytics.com*)
+ *  - network.block.resourceTypes  comma separated CDP resource types, as CDP spells them (Image, Font, Media, XHR...)
+ *  - network.block.stage          response (default): requests are failed once headers arrive, so the
+ *                                 Content-Length of the body we skipped is counted as bytes saved;
+ *                                 request: failed before they leave the browser (fastest, bytes unknown)
+ *
+ * Uses raw CDP commands so it does not depend on a versioned devtools package.
+ * Browsers without DevTools (Firefox) are left untouched.
+ */
+public final class NetworkBlocker {
+
+    private static final Map<WebDriver, NetworkBlocker> BY_DRIVER = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    // JVM-wide totals
+    private static final LongAdder TOTAL_BLOCKED = new LongAdder();
+    private static final LongAdder TOTAL_BYTES_SAVED = new LongAdder();
+
+    private final DevTools devTools;
+    private volatile boolean active = false;
+    private final LongAdder blocked = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+    private final Map<String, LongAdder> blockedByType = new ConcurrentHashMap<>();
+
+    private NetworkBlocker(DevTools devTools) {
+        this.devTools = devTools;
+        devTools.createSessionIfThereIsNotOne();
+        devTools.addListener(new Event<>("Fetch.requestPaused", input -> (Map<?, ?>) input.read(Map.class)), this::onPaused);
+    }
+
+    /**
+     * Apply the configured blocking to a session (or switch it off).
+     * The same blocker is reused for a pooled session, so listeners never pile up.
+     *
+     * @return the blocker, or null if the browser has no DevTools support
+     */
+    public static NetworkBlocker apply(WebDriver driver, Properties p, boolean enabled) {
+        NetworkBlocker blocker = BY_DRIVER.get(driver);
+        if (blocker == null) {
+            if (!enabled) {
+                return null;                       // never blocked, nothing to switch off
+            }
+            if (!(driver instanceof HasDevTools)) {
+                EventLog.info("network.skipped", "Network blocking skipped: " + driver.getClass().getSimpleName() + " has no DevTools");
+                return null;
+            }
+            blocker = new NetworkBlocker(((HasDevTools) driver).getDevTools());
+            BY_DRIVER.put(driver, blocker);
+        }
+        if (enabled) {
+            blocker.enable(p);
+        } else {
+            blocker.disable();
+        }
+        return blocker;
+    }
+
+    /**
+     * Should the given test class block requests? @NetworkBlocking wins over "network.block.enabled".
+     */
+    public static boolean enabledFor(Class<?> testClass, Properties p) {
+        NetworkBlocking annotation = testClass.getAnnotation(NetworkBlocking.class);
+        if (annotation != null) {
+            return annotation.value();
+        }
+        return Config.getBoolean(p, "network.block.enabled", false);
+    }
+
+    /**
+     * Forget the blocker of a session that is being quit.
+     */
+    public static void forget(WebDriver driver) {
+        BY_DRIVER.remove(driver);
+    }
+
+    public static long totalBlocked() {
+        return TOTAL_BLOCKED.sum();
+    }
+
+    public static long totalBytesSaved() {
+        return TOTAL_BYTES_SAVED.sum();
+    }
+
+    public long blocked() {
+        return blocked.sum();
+    }
+
+    public long bytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    /**
+     * Counters of this session since blocking was last enabled.
+     */
+    @Override
+    public String toString() {
+        Map<String, Long> byType = new TreeMap<>();
+        blockedByType.forEach((type, count) -> byType.put(type, count.sum()));
+        return "blocked=" + blocked.sum() + " " + byType + ", saved=" + (bytesSaved.sum() / 1024) + " KB";
+    }
+
+    /* ===========================
+       Internals
+       =========================== */
+
+    private void enable(Properties p) {
+        String stage = p.getProperty("network.block.stage", "response").trim().equalsIgnoreCase("request") ? "Request" : "Response";
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (String url : list(p.getProperty("network.block.urlPatterns", ""))) {
+            patterns.add(Map.of("urlPattern", url, "requestStage", stage));
+        }
+        for (String type : list(p.getProperty("network.block.resourceTypes", ""))) {
+            patterns.add(Map.of("urlPattern", "*", "resourceType", type, "requestStage", stage));
+        }
+
+        blocked.reset();
+        bytesSaved.reset();
+        blockedByType.clear();
+        if (patterns.isEmpty()) {
+            disable();
+            return;
+        }
+        // Only matching requests are paused, and every paused request gets failed
+        devTools.send(new Command<Void>("Fetch.enable", Map.of("patterns", patterns)));
+        active = true;
+    }
+
+    private void disable() {
+        if (active) {
+            active = false;
+            devTools.send(new Command<Void>("Fetch.disable", Map.of()));
+        }
+    }
+
+    private void onPaused(Map<?, ?> event) {
+        String requestId = String.valueOf(event.get("requestId"));
+        if (!active) {
+            devTools.send(new Command<Void>("Fetch.continueRequest", Map.of("requestId", requestId)));
+            return;
+        }
+        devTools.send(new Command<Void>("Fetch.failRequest", Map.of("requestId", requestId, "errorReason", "BlockedByClient")));
+
+        long bytes = contentLength(event.get("responseHeaders"));
+        String type = String.valueOf(event.get("resourceType"));
+        blocked.increment();
+        bytesSaved.add(bytes);
+        blockedByType.computeIfAbsent(type, t -> new LongAdder()).increment();
+        TOTAL_BLOCKED.increment();
+        TOTAL_BYTES_SAVED.add(bytes);
+    }
+
+    private static long contentLength(Object headers) {
+        if (!(headers instanceof List)) {
+            return 0;
+        }
+        for (Object header : (List<?>) headers) {
+            Map<?, ?> h = (Map<?, ?>) header;
+            if ("content-length".equalsIgnoreCase(String.valueOf(h.get("name")))) {
+                try {
+                    return Long.parseLong(String.valueOf(h.get("value")).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static List<String> list(String csv) {
+        List<String> values = new ArrayList<>();
+        for (String value : csv.split(",")) {
+            if (!value.isBlank()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,20 @@
+package PageObject.helpers;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Per test class switch for NetworkBlocker.
+ * Put @NetworkBlocking(false) on a test class whose checks need images/fonts;
+ * classes without the annotation follow "network.block.enabled" in global.properties.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface NetworkBlocking {
+
+    boolean value() default true;
+}
@@ -0,0 +1,91 @@
+package PageObject.helpers;
+
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * OptionPicker utility class.
+ * Finds the option of a list (autocomplete, room menu, filter suggestions...) whose text matches,
+ * doing the matching inside the browser in one script call, then clicks it.
+ * A miss throws immediately with the texts that were on offer, instead of silently doing nothing.
+ */
+public class OptionPicker {
+
+    /**
+     * How an option's text is compared with the wanted text (whitespace is always collapsed and trimmed).
+     */
+    public enum TextMatch {
+        /** Same text, same case. */
+        EXACT,
+        /** Same text, any case. */
+        IGNORE_CASE,
+        /** Option text contains the wanted text, any case. */
+        CONTAINS
+    }
+
+    // Runs in the browser: arguments = container, option css, text css (or null), wanted text, match mode
+    private static final String FIND_SCRIPT =
+            "var options = arguments[0].querySelectorAll(arguments[1]);"
+          + "var textCss = arguments[2], mode = arguments[4];"
+          + "function norm(s) { return (s || '').replace(/\\s+/g, ' ').trim(); }"
+          + "var wanted = norm(arguments[3]), wantedLower = wanted.toLowerCase(), seen = [];"
+          + "function hit(t) {"
+          + "  if (mode === 'EXACT') return t === wanted;"
+          + "  if (mode === 'IGNORE_CASE') return t.toLowerCase() === wantedLower;"
+          + "  return t.toLowerCase().indexOf(wantedLower) >= 0;"
+          + "}"
+          + "for (var i = 0; i < options.length; i++) {"
+          + "  var parts = textCss ? options[i].querySelectorAll(textCss) : [options[i]];"
+          + "  for (var j = 0; j < parts.length; j++) {"
+          + "    var t = norm(parts[j].innerText);"
+          + "    if (hit(t)) return { match: options[i] };"
+          + "    if (t) seen.push(t);"
+          + "  }"
+          + "}"
+          + "return { match: null, seen: seen };";
+
+    private final WebDriver driver;
+
+    public OptionPicker(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Click the first option of the container whose text matches.
+     *
+     * @param container an already-located list container
+     * @param optionCss CSS of the clickable options inside the container (e.g. "li")
+     * @param textCss   CSS of the text parts inside each option to compare (e.g. "span"), or null for the option's own text
+     * @param text      wanted text
+     * @param match     comparison mode
+     * @return the clicked option
+     * @throws NoSuchElementException if no option matches (the message lists the texts that were available)
+     */
+    public WebElement pick(WebElement container, String optionCss, String textCss, String text, TextMatch match) {
+        TestBudget.check("pick option \"" + text + "\"");
+        WebElement option = find(container, optionCss, textCss, text, match);
+        option.click();
+        return option;
+    }
+
+    /**
+     * Same as pick(), without clicking.
+     */
+    public WebElement find(WebElement container, String optionCss, String textCss, String text, TextMatch match) {
+        Map<?, ?> result = (Map<?, ?>) ((JavascriptExecutor) driver)
+                .executeScript(FIND_SCRIPT, container, optionCss, textCss, text, match.name());
+
+        Object found = result.get("match");
+        if (found instanceof WebElement) {
+            return (WebElement) found;
+        }
+        List<?> seen = (List<?>) result.get("seen");
+        throw new NoSuchElementException("No option '" + optionCss + "' matching " + match + " '" + text
+                + "'. Available: " + seen);
+    }
+}
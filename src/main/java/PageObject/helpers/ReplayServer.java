@@ -0,0 +1,176 @@
+package PageObject.helpers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * ReplayServer class.
+ * Embedded HTTP server (JDK com.sun.net.httpserver) that serves a TrafficArchive on 127.0.0.1.
+ *
+ * - The recorded main host is served at the root, every other host under /__host/&lt;host&gt;/.
+ * - Text bodies (HTML, JS, JSON, CSS) are rewritten so absolute links to recorded hosts point back here,
+ *   which keeps the whole page load on the local machine.
+ * - Anything that was not recorded gets a 404 and is counted as a miss.
+ */
+public final class ReplayServer {
+
+    private static final String HOST_PREFIX = "/__host/";
+    private static ReplayServer shared;
+
+    private final TrafficArchive archive;
+    private final HttpServer server;
+    private final String baseUrl;
+    private final List<Rewrite> rewrites = new ArrayList<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private record Rewrite(Pattern pattern, String plain, String escaped) {
+    }
+
+    private ReplayServer(TrafficArchive archive, int port) {
+        if (archive.size() == 0 || archive.mainHost() == null) {
+            throw new IllegalStateException("Nothing recorded in " + archive.dir() + " (run once with fixtures.mode=record)");
+        }
+        this.archive = archive;
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        for (String host : archive.hosts()) {
+            String local = host.equals(archive.mainHost()) ? baseUrl : baseUrl + HOST_PREFIX + host;
+            rewrites.add(new Rewrite(
+                    Pattern.compile("(?:https?:)?(//|\\\\/\\\\/)" + Pattern.quote(host) + "(?![\\w.-])"),
+                    local, local.replace("/", "\\/")));
+        }
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "replay-server");
+            t.setDaemon(true);
+            return t;
+        }));
+        server.start();
+    }
+
+    /**
+     * JVM-wide server for an archive; port 0 picks a free port.
+     */
+    public static synchronized ReplayServer shared(TrafficArchive archive, int port) {
+        if (shared == null) {
+            shared = new ReplayServer(archive, port);
+            Runtime.getRuntime().addShutdownHook(new Thread(shared::stop, "replay-server-shutdown"));
+        }
+        return shared;
+    }
+
+    /**
+     * Local URL of the recorded start page's host, e.g. http://127.0.0.1:51234
+     */
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Local URL of the first recorded page (where BasePage should point the browser).
+     */
+    public String startUrl() {
+        return localUrl(archive.startUrl());
+    }
+
+    /**
+     * Local equivalent of a recorded absolute URL.
+     */
+    public String localUrl(String recordedUrl) {
+        URI uri = URI.create(recordedUrl);
+        String prefix = uri.getHost().equals(archive.mainHost()) ? baseUrl : baseUrl + HOST_PREFIX + uri.getHost();
+        return prefix + TrafficArchive.pathAndQuery(uri);
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    /* ===========================
+       Internals
+       =========================== */
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String target = exchange.getRequestURI().getRawPath()
+                    + (exchange.getRequestURI().getRawQuery() == null ? "" : "?" + exchange.getRequestURI().getRawQuery());
+            String host = archive.mainHost();
+            if (target.startsWith(HOST_PREFIX)) {
+                String rest = target.substring(HOST_PREFIX.length());
+                int slash = rest.indexOf('/');
+                host = slash < 0 ? rest : rest.substring(0, slash);
+                target = slash < 0 ? "/" : rest.substring(slash);
+            }
+            String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+            TrafficArchive.Entry entry = archive.find(exchange.getRequestMethod(), host, target, requestBody);
+            if (entry == null) {
+                misses.increment();
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            hits.increment();
+
+            byte[] body = archive.body(entry);
+            if (isText(entry.contentType())) {
+                body = rewrite(new String(body, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+            }
+            String type = entry.contentType() == null || entry.contentType().isEmpty() ? "application/octet-stream" : entry.contentType();
+            exchange.getResponseHeaders().set("Content-Type", isText(type) ? type + "; charset=utf-8" : type);
+            exchange.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
+            exchange.sendResponseHeaders(entry.status() == 0 ? 200 : entry.status(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        }
+    }
+
+    private String rewrite(String text) {
+        for (Rewrite r : rewrites) {
+            Matcher m = r.pattern().matcher(text);
+            StringBuilder out = new StringBuilder();
+            while (m.find()) {
+                m.appendReplacement(out, Matcher.quoteReplacement(m.group(1).startsWith("\\") ? r.escaped() : r.plain()));
+            }
+            m.appendTail(out);
+            text = out.toString();
+        }
+        return text;
+    }
+
+    private static boolean isText(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String t = contentType.toLowerCase();
+        return t.startsWith("text/") || t.contains("javascript") || t.contains("json") || t.contains("xml");
+    }
+}
@@ -0,0 +1,156 @@
+package PageObject.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import PageObject.HotelCard;
+
+/**
+ * ResultExtractor class.
+ * Reads every result card (name, price, rating, position) with a single executeScript call,
+ * instead of one findElement + one getText round trip per card.
+ * walk() keeps the old WebElement-by-WebElement path as a fallback.
+ */
+public class ResultExtractor {
+
+    // First number of the rating label: "8.5 (1,234 reviews)" and "8,5/10" are both 8.5
+    private static final Pattern RATING = Pattern.compile("\\d+(?:[.,]\\d+)?");
+
+    // Runs in the browser: arguments = container, card css, name css, price css, rating css
+    private static final String EXTRACT_SCRIPT =
+            "var root = arguments[0], out = [];"
+          + "var cards = root.querySelectorAll(arguments[1]);"
+          + "function text(card, css) { var el = card.querySelector(css); return el ? el.innerText.trim() : ''; }"
+          + "for (var i = 0; i < cards.length; i++) {"
+          + "  out.push({ name: text(cards[i], arguments[2]),"
+          + "             price: text(cards[i], arguments[3]),"
+          + "             rating: text(cards[i], arguments[4]) });"
+          + "}"
+          + "return out;";
+
+    private final WebDriver driver;
+    private final String cardCss;
+    private final String nameCss;
+    private final String priceCss;
+    private final String ratingCss;
+
+    public ResultExtractor(WebDriver driver, String cardCss, String nameCss, String priceCss, String ratingCss) {
+        this.driver = driver;
+        this.cardCss = cardCss;
+        this.nameCss = nameCss;
+        this.priceCss = priceCss;
+        this.ratingCss = ratingCss;
+    }
+
+    /**
+     * Extract all cards of the container, using the single-script path when the browser allows it.
+     */
+    public List<HotelCard> read(WebElement container) {
+        if (driver instanceof JavascriptExecutor) {
+            try {
+                List<HotelCard> cards = extract(container);
+                if (cards != null) {
+                    return cards;
+                }
+            } catch (JavascriptException e) {
+                EventLog.info("results.extractFallback", "Batch extraction failed, walking the cards instead: " + e.getMessage());
+            }
+        }
+        return walk(container);
+    }
+
+    /**
+     * One round trip: the browser collects every card and returns plain maps.
+     *
+     * @return the cards, or null if the script returned something unexpected
+     */
+    public List<HotelCard> extract(WebElement container) {
+        Object raw = ((JavascriptExecutor) driver).executeScript(EXTRACT_SCRIPT, container, cardCss, nameCss, priceCss, ratingCss);
+        return parse(raw, 0);
+    }
+
+    /**
+     * Turn the script's card maps into HotelCards, numbering them from firstPosition + 1.
+     *
+     * @return the cards, or null if raw is not a list
+     */
+    static List<HotelCard> parse(Object raw, int firstPosition) {
+        if (!(raw instanceof List)) {
+            return null;
+        }
+
+        List<HotelCard> cards = new ArrayList<>();
+        int position = firstPosition;
+        for (Object row : (List<?>) raw) {
+            Map<?, ?> fields = (Map<?, ?>) row;
+            position++;
+            String name = String.valueOf(fields.get("name"));
+            if (!name.isBlank()) {
+                cards.add(new HotelCard(position, name, String.valueOf(fields.get("price")), parseRating(String.valueOf(fields.get("rating")))));
+            }
+        }
+        return cards;
+    }
+
+    String cardCss() {
+        return cardCss;
+    }
+
+    String nameCss() {
+        return nameCss;
+    }
+
+    String priceCss() {
+        return priceCss;
+    }
+
+    String ratingCss() {
+        return ratingCss;
+    }
+
+    /**
+     * Fallback: walk the cards over WebDriver (about 2 round trips per field per card).
+     */
+    public List<HotelCard> walk(WebElement container) {
+        // Optional price/rating lookups return at once: SmartWaits keeps the implicit wait at zero
+        List<HotelCard> cards = new ArrayList<>();
+        int position = 0;
+        for (WebElement card : container.findElements(By.cssSelector(cardCss))) {
+            position++;
+            String name = card.findElement(By.cssSelector(nameCss)).getText();
+            if (name != null && !name.isBlank()) {
+                cards.add(new HotelCard(position, name, optionalText(card, priceCss), parseRating(optionalText(card, ratingCss))));
+            }
+        }
+        return cards;
+    }
+
+    private static String optionalText(WebElement card, String css) {
+        List<WebElement> found = card.findElements(By.cssSelector(css));
+        return found.isEmpty() ? "" : found.get(0).getText().trim();
+    }
+
+    private static Double parseRating(String text) {
+        if (text == null) {
+            return null;
+        }
+        Matcher number = RATING.matcher(text);
+        if (!number.find()) {
+            return null;
+        }
+        try {
+            return Double.valueOf(number.group().replace(',', '.'));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
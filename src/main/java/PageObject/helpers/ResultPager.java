@@ -0,0 +1,291 @@
+package PageObject.helpers;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import PageObject.HotelCard;
+
+/**
+ * ResultPager class.
+ * Walks every page of the result list lazily, one page (or one infinite-scroll batch) at a time.
+ *
+ * - Page 1 is the list already on screen; each further page costs one async script call that
+ *   clicks "next" (or scrolls to the bottom when there is no pager), waits for the new cards and extracts them.
+ * - A disabled "next" control, or a scroll that brings no new cards within the page timeout, ends the walk.
+ * - While the caller looks at page N, page N+1 is already being loaded and extracted (prefetch),
+ *   so the browser is usually one page ahead of what the caller has seen.
+ * - find() stops at the first matching card and does not prefetch: existence checks only load the pages
+ *   they need, and the tab is left on the page of the match instead of one page past it.
+ * - Cards already seen are kept, so a second lookup on the same list does not walk the pages again.
+ */
+public class ResultPager {
+
+    // Shared daemon threads for the prefetch; a pager never has more than one call in flight
+    private static final ExecutorService PREFETCH = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "result-prefetch");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Runs in the browser (async): arguments = using, value, card css, name css, price css, rating css,
+    // next css, timeout ms, callback. Returns { mode: 'page' | 'scroll' | 'end', offset, cards }
+    private static final String ADVANCE_SCRIPT =
+            "var using = arguments[0], value = arguments[1], cardCss = arguments[2], nameCss = arguments[3],"
+          + "    priceCss = arguments[4], ratingCss = arguments[5], nextCss = arguments[6], timeoutMs = arguments[7];"
+          + "var done = arguments[arguments.length - 1];"
+          + "function container() {"
+          + "  if (using === 'xpath') return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+          + "  return document.querySelector(value);"
+          + "}"
+          + "function cards() { var c = container(); return c ? c.querySelectorAll(cardCss) : []; }"
+          + "function text(card, css) { var el = card.querySelector(css); return el ? el.innerText.trim() : ''; }"
+          + "function read(from) {"
+          + "  var all = cards(), out = [];"
+          + "  for (var i = from; i < all.length; i++) {"
+          + "    out.push({ name: text(all[i], nameCss), price: text(all[i], priceCss), rating: text(all[i], ratingCss) });"
+          + "  }"
+          + "  return out;"
+          + "}"
+          + "var before = cards(), first = before[0], count = before.length;"
+          + "var next = nextCss ? document.querySelector(nextCss) : null;"
+          + "var paged = !!(next && !next.disabled && next.getAttribute('aria-disabled') !== 'true' && next.offsetParent !== null);"
+          + "function changed() {"
+          + "  var now = cards();"
+          + "  return paged ? (now.length > 0 && now[0] !== first) : now.length > count;"
+          + "}"
+          + "var observer, quiet, timer;"
+          + "function finish(mode) {"
+          + "  if (observer) observer.disconnect();"
+          + "  clearTimeout(quiet); clearTimeout(timer);"
+          + "  if (mode === 'end') { done({ mode: 'end', offset: count, cards: [] }); return; }"
+          + "  var offset = paged ? 0 : count;"
+          + "  done({ mode: mode, offset: offset, cards: read(offset) });"
+          + "}"
+          + "function check() {"
+          + "  if (!changed()) return;"
+          + "  clearTimeout(quiet);"
+          + "  quiet = setTimeout(function () { finish(paged ? 'page' : 'scroll'); }, 300);"
+          + "}"
+          + "observer = new MutationObserver(check);"
+          + "observer.observe(document.body, { childList: true, subtree: true });"
+          + "timer = setTimeout(function () { finish(changed() ? (paged ? 'page' : 'scroll') : 'end'); }, timeoutMs);"
+          + "if (paged) { next.click(); }"
+          + "else if (next) { finish('end'); }"
+          + "else if (count > 0) { before[count - 1].scrollIntoView({ block: 'end' }); window.scrollTo(0, document.body.scrollHeight); }"
+          + "else { finish('end'); }";
+
+    private final WebDriver driver;
+    private final ResultExtractor extractor;
+    private final String[] containerQuery;
+    private final String nextPageCss;
+    private final int maxPages;
+    private final long pageTimeoutMillis;
+    private final boolean prefetch;
+
+    private final List<HotelCard> seen = new ArrayList<>();
+    private final Deque<List<HotelCard>> ready = new ArrayDeque<>();
+    private CompletableFuture<Page> inFlight;
+    private int pagesLoaded;
+    private boolean exhausted;
+
+    /**
+     * @param firstPage   cards already extracted from the page on screen (page 1)
+     * @param container   locator of the result list (must have a CSS or XPath form)
+     * @param nextPageCss "next page" control; when absent or disabled the pager scrolls instead
+     */
+    public ResultPager(WebDriver driver, ResultExtractor extractor, List<HotelCard> firstPage, By container,
+                       String nextPageCss, int maxPages, long pageTimeoutMillis, boolean prefetch) {
+        this.driver = driver;
+        this.extractor = extractor;
+        this.containerQuery = SmartWaits.toQuery(container);
+        this.nextPageCss = nextPageCss;
+        this.maxPages = maxPages;
+        this.pageTimeoutMillis = pageTimeoutMillis;
+        this.prefetch = prefetch && driver instanceof JavascriptExecutor;
+        this.pagesLoaded = 1;
+        this.exhausted = containerQuery == null || !(driver instanceof JavascriptExecutor);
+        ready.add(firstPage);
+    }
+
+    /**
+     * Lazy stream of every card, page after page, positions numbered across pages.
+     * Cards already seen come first; closing the stream (or leaving a short-circuiting operation)
+     * waits for a prefetch still in flight, so the driver is idle again when the caller continues.
+     * While the stream is open the prefetch thread drives the browser: do not use the driver until it is closed.
+     */
+    public Stream<HotelCard> cards() {
+        return stream(prefetch);
+    }
+
+    /**
+     * First card matching the predicate, loading further pages only until a match or the last page.
+     * No page is loaded ahead of the one being checked, so a match leaves the browser on its page.
+     */
+    public Optional<HotelCard> find(Predicate<HotelCard> predicate) {
+        try (Stream<HotelCard> all = stream(false)) {
+            return all.filter(predicate).findFirst();
+        }
+    }
+
+    private Stream<HotelCard> stream(boolean ahead) {
+        Iterator<List<HotelCard>> unseen = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return fill();
+            }
+
+            @Override
+            public List<HotelCard> next() {
+                if (!fill()) {
+                    throw new NoSuchElementException();
+                }
+                List<HotelCard> page = ready.poll();
+                seen.addAll(page);
+                if (ahead) {
+                    startPrefetch();
+                }
+                return page;
+            }
+        };
+        Stream<HotelCard> rest = StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(unseen, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .flatMap(List::stream);
+        return Stream.concat(List.copyOf(seen).stream(), rest).onClose(this::settle);
+    }
+
+    /**
+     * Cards handed out so far, in list order.
+     */
+    public List<HotelCard> seen() {
+        return Collections.unmodifiableList(seen);
+    }
+
+    public int pagesLoaded() {
+        return pagesLoaded;
+    }
+
+    public boolean exhausted() {
+        return exhausted && ready.isEmpty() && inFlight == null;
+    }
+
+    /**
+     * Wait for a prefetch in flight (its page is kept for the next call).
+     */
+    public void settle() {
+        if (inFlight != null) {
+            accept(join(inFlight));
+            inFlight = null;
+        }
+    }
+
+    /* ===========================
+       Internals
+       =========================== */
+
+    private boolean fill() {
+        if (!ready.isEmpty()) {
+            return true;
+        }
+        if (inFlight == null) {
+            startPrefetch();
+        }
+        while (ready.isEmpty() && inFlight != null) {
+            CompletableFuture<Page> pending = inFlight;
+            inFlight = null;
+            accept(join(pending));
+            if (ready.isEmpty()) {
+                // Empty batch (e.g. a scroll that only re-rendered): try the next one
+                startPrefetch();
+            }
+        }
+        return !ready.isEmpty();
+    }
+
+    private void startPrefetch() {
+        if (inFlight != null || exhausted || pagesLoaded >= maxPages) {
+            if (pagesLoaded >= maxPages) {
+                exhausted = true;
+            }
+            return;
+        }
+        // The page wait draws from the caller's TestBudget, read here since the prefetch thread has none
+        long timeoutMillis = TestBudget.clamp(Duration.ofMillis(pageTimeoutMillis), "next result page").toMillis();
+        inFlight = prefetch
+                ? CompletableFuture.supplyAsync(() -> advance(timeoutMillis), PREFETCH)
+                : CompletableFuture.completedFuture(advance(timeoutMillis));
+    }
+
+    private Page advance(long timeoutMillis) {
+        Object raw = ((JavascriptExecutor) driver).executeAsyncScript(ADVANCE_SCRIPT,
+                containerQuery[0], containerQuery[1], extractor.cardCss(), extractor.nameCss(),
+                extractor.priceCss(), extractor.ratingCss(), nextPageCss, timeoutMillis);
+        if (!(raw instanceof Map)) {
+            return new Page("end", 0, null);
+        }
+        Map<?, ?> result = (Map<?, ?>) raw;
+        int offset = ((Number) result.get("offset")).intValue();
+        return new Page(String.valueOf(result.get("mode")), offset, result.get("cards"));
+    }
+
+    private void accept(Page page) {
+        if ("end".equals(page.mode)) {
+            exhausted = true;
+            return;
+        }
+        pagesLoaded++;
+        int firstPosition = seen.size() + queued();
+        List<HotelCard> cards = ResultExtractor.parse(page.cards, firstPosition);
+        if (cards == null) {
+            exhausted = true;
+            return;
+        }
+        if (!cards.isEmpty()) {
+            ready.add(cards);
+        }
+    }
+
+    private int queued() {
+        int n = 0;
+        for (List<HotelCard> page : ready) {
+            n += page.size();
+        }
+        return n;
+    }
+
+    private Page join(CompletableFuture<Page> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            exhausted = true;
+            if (e.getCause() instanceof WebDriverException) {
+                throw (WebDriverException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private record Page(String mode, int offset, Object cards) {
+    }
+}
@@ -0,0 +1,108 @@
+package PageObject.helpers;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import PageObject.HotelCard;
+
+/**
+ * ResultSnapshot class.
+ * Immutable, indexed copy of one extraction of the result list:
+ * - byName(): hash lookup on the normalized name (case, accents and spacing ignored),
+ * - containing(): substring lookup through a trigram index, candidates confirmed with contains().
+ */
+public final class ResultSnapshot {
+
+    private static final int GRAM = 3;
+
+    private final List<HotelCard> cards;
+    private final List<String> normalized = new ArrayList<>();
+    private final Map<String, List<HotelCard>> byName = new HashMap<>();
+    private final Map<String, BitSet> grams = new HashMap<>();
+
+    public ResultSnapshot(List<HotelCard> cards) {
+        this.cards = List.copyOf(cards);
+        for (int i = 0; i < this.cards.size(); i++) {
+            String name = normalize(this.cards.get(i).name());
+            normalized.add(name);
+            byName.computeIfAbsent(name, k -> new ArrayList<>()).add(this.cards.get(i));
+            for (int g = 0; g + GRAM <= name.length(); g++) {
+                grams.computeIfAbsent(name.substring(g, g + GRAM), k -> new BitSet()).set(i);
+            }
+        }
+    }
+
+    public List<HotelCard> cards() {
+        return cards;
+    }
+
+    public List<String> names() {
+        List<String> names = new ArrayList<>(cards.size());
+        for (HotelCard card : cards) {
+            names.add(card.name());
+        }
+        return names;
+    }
+
+    public int size() {
+        return cards.size();
+    }
+
+    /**
+     * Cards whose whole name equals the given one (after normalization).
+     */
+    public List<HotelCard> byName(String name) {
+        return byName.getOrDefault(normalize(name), Collections.emptyList());
+    }
+
+    /**
+     * Cards whose name contains the fragment (after normalization), in list order.
+     */
+    public List<HotelCard> containing(String fragment) {
+        String needle = normalize(fragment);
+        List<HotelCard> matches = new ArrayList<>();
+        if (needle.length() < GRAM) {
+            for (int i = 0; i < cards.size(); i++) {
+                if (normalized.get(i).contains(needle)) {
+                    matches.add(cards.get(i));
+                }
+            }
+            return matches;
+        }
+        BitSet candidates = null;
+        for (int g = 0; g + GRAM <= needle.length(); g++) {
+            BitSet rows = grams.get(needle.substring(g, g + GRAM));
+            if (rows == null) {
+                return matches;
+            }
+            if (candidates == null) {
+                candidates = (BitSet) rows.clone();
+            } else {
+                candidates.and(rows);
+            }
+        }
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (normalized.get(i).contains(needle)) {
+                matches.add(cards.get(i));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Lower case, accents stripped, runs of whitespace collapsed to one space.
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String plain = Normalizer.normalize(name, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+        return plain.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").trim();
+    }
+}
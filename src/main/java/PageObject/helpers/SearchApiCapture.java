@@ -0,0 +1,317 @@
+package PageObject.helpers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import PageObject.HotelCard;
+
+/**
+ * SearchApiCapture class.
+ * Reads the hotel results from the site's search API responses (XHR / fetch) through the Chrome
+ * DevTools "Network" domain, instead of scraping the rendered cards:
+ * - every response whose URL matches "results.api.urlPattern" and whose JSON has a list at
+ *   "results.api.listPath" becomes a Payload of HotelCard records (other matches are ignored),
+ * - payloads are numbered, so "the results requested after this click" is mark() before the click
+ *   and awaitAfter(mark, timeout) after it: an exact arrival signal, whatever the DOM still shows,
+ * - a new main-frame document drops the payloads of the previous one.
+ *
+ * Configured from global.properties (paths are dot-separated keys, numbers index into arrays):
+ *  - results.source          dom (default) | api: attach a capture to every session (BasePage)
+ *  - results.api.urlPattern  "*" wildcards, e.g. *graphql*
+ *  - results.api.listPath    path from the response root to the list of hotels
+ *  - results.api.namePath / pricePath / ratingPath  paths inside one hotel entry
+ *  - results.api.timeoutSeconds  how long awaitAfter(mark) waits for the response
+ *
+ * Browsers without DevTools (Firefox) are left untouched; HotelsResult then scrapes the DOM.
+ */
+public final class SearchApiCapture {
+
+    private static final Map<WebDriver, SearchApiCapture> BY_DRIVER = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final Set<String> TYPES = Set.of("XHR", "Fetch");
+
+    private final DevTools devTools;
+    private final Pattern urlPattern;
+    private final String[] listPath;
+    private final String[] namePath;
+    private final String[] pricePath;
+    private final String[] ratingPath;
+    private final Duration timeout;
+    private final Json json = new Json();
+
+    private final Map<String, String> pending = new ConcurrentHashMap<>();
+    private final LongAdder matched = new LongAdder();
+    private final LongAdder decoded = new LongAdder();
+    private final LongAdder ignored = new LongAdder();
+
+    // Guarded by this
+    private long sequence;
+    private Payload latest;
+
+    /**
+     * One decoded results response.
+     *
+     * @param sequence increasing number of the payload in this session (see mark())
+     * @param url      request URL of the response
+     * @param cards    hotels in response order, positions from 1
+     */
+    public record Payload(long sequence, String url, List<HotelCard> cards, long receivedAtNanos) {
+    }
+
+    private SearchApiCapture(DevTools devTools, Properties p) {
+        this.devTools = devTools;
+        this.urlPattern = glob(p.getProperty("results.api.urlPattern", "*graphql*"));
+        this.listPath = path(p.getProperty("results.api.listPath", "data.accommodations"));
+        this.namePath = path(p.getProperty("results.api.namePath", "name"));
+        this.pricePath = path(p.getProperty("results.api.pricePath", "price"));
+        this.ratingPath = path(p.getProperty("results.api.ratingPath", "rating"));
+        this.timeout = Duration.ofSeconds(Config.getInt(p, "results.api.timeoutSeconds", 25));
+    }
+
+    /**
+     * Start capturing the results responses of a session (once per session; a pooled session keeps its capture).
+     *
+     * @return the capture, or null if the browser has no DevTools support
+     */
+    public static SearchApiCapture attach(WebDriver driver, Properties p) {
+        synchronized (BY_DRIVER) {
+            SearchApiCapture capture = BY_DRIVER.get(driver);
+            if (capture != null) {
+                return capture;
+            }
+            if (!(driver instanceof HasDevTools)) {
+                EventLog.info("results.api", "Search API capture skipped: " + driver.getClass().getSimpleName() + " has no DevTools");
+                return null;
+            }
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            capture = new SearchApiCapture(devTools, p);
+            capture.listen();
+            BY_DRIVER.put(driver, capture);
+            return capture;
+        }
+    }
+
+    /**
+     * The capture attached to the session behind this driver (decorators are unwrapped), or null.
+     */
+    public static SearchApiCapture of(WebDriver driver) {
+        WebDriver current = driver;
+        while (current != null) {
+            SearchApiCapture capture = BY_DRIVER.get(current);
+            if (capture != null) {
+                return capture;
+            }
+            current = current instanceof WrapsDriver ? ((WrapsDriver) current).getWrappedDriver() : null;
+        }
+        return null;
+    }
+
+    /**
+     * Forget a session that is being quit.
+     */
+    public static void forget(WebDriver driver) {
+        BY_DRIVER.remove(driver);
+    }
+
+    /**
+     * Sequence number of the newest payload so far; take it before the action that requests results.
+     */
+    public synchronized long mark() {
+        return sequence;
+    }
+
+    /**
+     * Newest payload of the current document, or null if none arrived yet.
+     */
+    public synchronized Payload latest() {
+        return latest;
+    }
+
+    /**
+     * Wait up to "results.api.timeoutSeconds" for a payload newer than mark.
+     *
+     * @return the newest payload, or null if none arrived in time
+     */
+    public Payload awaitAfter(long mark) {
+        return awaitAfter(mark, timeout);
+    }
+
+    /**
+     * Wait for a payload newer than mark (bounded by the test's time budget).
+     *
+     * @return the newest payload, or null if none arrived in time
+     */
+    public synchronized Payload awaitAfter(long mark, Duration timeout) {
+        long deadline = System.nanoTime() + TestBudget.clamp(timeout, "search API response").toNanos();
+        while (latest == null || latest.sequence() <= mark) {
+            long left = deadline - System.nanoTime();
+            if (left <= 0) {
+                return null;
+            }
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, left);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return latest;
+    }
+
+    @Override
+    public String toString() {
+        return matched.sum() + " matching responses, " + decoded.sum() + " decoded, " + ignored.sum() + " ignored";
+    }
+
+    /* ===========================
+       Internals
+       =========================== */
+
+    private void listen() {
+        devTools.send(new Command<Void>("Network.enable", Map.of()));
+        devTools.send(new Command<Void>("Page.enable", Map.of()));
+        devTools.addListener(event("Page.frameNavigated"), e -> {
+            Map<?, ?> frame = (Map<?, ?>) e.get("frame");
+            if (frame != null && frame.get("parentId") == null) {
+                newDocument();
+            }
+        });
+        devTools.addListener(event("Network.responseReceived"), e -> {
+            Map<?, ?> response = (Map<?, ?>) e.get("response");
+            String url = String.valueOf(response.get("url"));
+            if (TYPES.contains(String.valueOf(e.get("type"))) && urlPattern.matcher(url).matches()) {
+                pending.put(String.valueOf(e.get("requestId")), url);
+            }
+        });
+        devTools.addListener(event("Network.loadingFinished"), e -> {
+            String id = String.valueOf(e.get("requestId"));
+            String url = pending.remove(id);
+            if (url != null) {
+                decode(id, url);
+            }
+        });
+        devTools.addListener(event("Network.loadingFailed"), e -> pending.remove(String.valueOf(e.get("requestId"))));
+    }
+
+    private synchronized void newDocument() {
+        latest = null;
+        pending.clear();
+    }
+
+    private void decode(String requestId, String url) {
+        matched.increment();
+        Object root;
+        try {
+            Map<?, ?> result = devTools.send(new Command<Map<?, ?>>("Network.getResponseBody", Map.of("requestId", requestId), Map.class));
+            String body = String.valueOf(result.get("body"));
+            if (Boolean.TRUE.equals(result.get("base64Encoded"))) {
+                body = new String(Base64.getDecoder().decode(body), StandardCharsets.UTF_8);
+            }
+            root = json.toType(body, Object.class);
+        } catch (WebDriverException e) {
+            // Body evicted (page navigated away) or not JSON (JsonException): not a results payload
+            ignored.increment();
+            return;
+        }
+        List<HotelCard> cards = cards(root);
+        if (cards == null) {
+            ignored.increment();            // same endpoint, other query (e.g. autocomplete)
+            return;
+        }
+        decoded.increment();
+        synchronized (this) {
+            latest = new Payload(++sequence, url, cards, System.nanoTime());
+            notifyAll();
+        }
+    }
+
+    /**
+     * Hotels of a response, or null when the response has no list at the configured path.
+     */
+    List<HotelCard> cards(Object root) {
+        if (!(resolve(root, listPath) instanceof List<?> list)) {
+            return null;
+        }
+        List<HotelCard> cards = new ArrayList<>(list.size());
+        for (Object entry : list) {
+            Object name = resolve(entry, namePath);
+            if (name == null) {
+                continue;
+            }
+            Object price = resolve(entry, pricePath);
+            cards.add(new HotelCard(cards.size() + 1, String.valueOf(name).trim(),
+                    price == null ? "" : String.valueOf(price).trim(), rating(resolve(entry, ratingPath))));
+        }
+        return List.copyOf(cards);
+    }
+
+    private static Object resolve(Object node, String[] path) {
+        Object current = node;
+        for (String key : path) {
+            if (current instanceof Map<?, ?> map) {
+                current = map.get(key);
+            } else if (current instanceof List<?> list && key.chars().allMatch(Character::isDigit)) {
+                int index = Integer.parseInt(key);
+                current = index < list.size() ? list.get(index) : null;
+            } else {
+                return null;
+            }
+        }
+        return current;
+    }
+
+    private static Double rating(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value != null) {
+            try {
+                return Double.valueOf(String.valueOf(value).trim().replace(',', '.'));
+            } catch (NumberFormatException ignored) {
+                // e.g. "New": no score
+            }
+        }
+        return null;
+    }
+
+    private static String[] path(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("\\.");
+    }
+
+    private static Pattern glob(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        for (String part : pattern.trim().split("\\*", -1)) {
+            if (regex.length() > 0) {
+                regex.append(".*");
+            }
+            regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static Event<Map<?, ?>> event(String method) {
+        return new Event<>(method, input -> (Map<?, ?>) input.read(Map.class));
+    }
+}
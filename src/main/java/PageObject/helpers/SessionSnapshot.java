@@ -0,0 +1,81 @@
+package PageObject.helpers;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.InvalidCookieDomainException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.UnableToSetCookieException;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * SessionSnapshot class.
+ * Checkpoint of a browser's state (URL, cookies, localStorage, sessionStorage) taken after a setup step,
+ * which can be restored later in the same session or in another one instead of replaying the UI.
+ *
+ * @param url            page the session was on
+ * @param cookies        cookies visible to that page
+ * @param localStorage   localStorage entries of the page's origin
+ * @param sessionStorage sessionStorage entries of the page's origin
+ */
+public record SessionSnapshot(String url, Set<Cookie> cookies, Map<String, String> localStorage,
+                              Map<String, String> sessionStorage) {
+
+    private static final String READ_STORAGE =
+            "function dump(s) { var o = {}; for (var i = 0; i < s.length; i++) { var k = s.key(i); o[k] = s.getItem(k); } return o; }"
+          + "return [dump(window.localStorage), dump(window.sessionStorage)];";
+
+    private static final String WRITE_STORAGE =
+            "function load(s, o) { s.clear(); for (var k in o) { s.setItem(k, o[k]); } }"
+          + "load(window.localStorage, arguments[0]); load(window.sessionStorage, arguments[1]);";
+
+    /**
+     * Capture the current state of a session (2 script/cookie round trips).
+     */
+    public static SessionSnapshot capture(WebDriver driver) {
+        List<?> storage = (List<?>) ((JavascriptExecutor) driver).executeScript(READ_STORAGE);
+        return new SessionSnapshot(driver.getCurrentUrl(), Set.copyOf(driver.manage().getCookies()),
+                toStrings((Map<?, ?>) storage.get(0)), toStrings((Map<?, ?>) storage.get(1)));
+    }
+
+    /**
+     * Put a session back into this state: same origin, cookies and storage, then reload the URL.
+     * Works on any session, not only the one the snapshot was taken from.
+     */
+    public void restore(WebDriver driver) {
+        // Cookies and storage can only be set from a page of the same origin
+        if (!origin(driver.getCurrentUrl()).equals(origin(url))) {
+            driver.get(origin(url) + "/");
+        }
+
+        driver.manage().deleteAllCookies();
+        for (Cookie cookie : cookies) {
+            try {
+                driver.manage().addCookie(cookie);
+            } catch (InvalidCookieDomainException | UnableToSetCookieException e) {
+                // Third-party cookie from another domain: not needed to rebuild the page state
+            }
+        }
+        ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE, localStorage, sessionStorage);
+        driver.get(url);
+    }
+
+    private static String origin(String url) {
+        try {
+            URI uri = URI.create(url);
+            return uri.getScheme() + "://" + uri.getRawAuthority();
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return "";
+        }
+    }
+
+    private static Map<String, String> toStrings(Map<?, ?> raw) {
+        Map<String, String> values = new HashMap<>();
+        raw.forEach((k, v) -> values.put(String.valueOf(k), String.valueOf(v)));
+        return Map.copyOf(values);
+    }
+}
@@ -0,0 +1,66 @@
+package PageObject.helpers;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * SharedSearches class.
+ * Suite-level (JVM-wide) fixture: the first class that needs a given search drives the UI once and
+ * publishes a SessionSnapshot; every other class (or data row) with the same key restores it.
+ * Parallel classes asking for the same key wait for the one search in flight instead of repeating it.
+ */
+public final class SharedSearches {
+
+    private static final Map<String, CompletableFuture<SessionSnapshot>> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    private SharedSearches() {
+    }
+
+    /**
+     * Bring the session to the state produced by "search", running the search only if no class did it yet.
+     *
+     * @param key    identity of the search (e.g. SearchRequest.key())
+     * @param search drives the UI on this driver and returns once the results are ready
+     * @return the snapshot now loaded in the session
+     */
+    public static SessionSnapshot resultsFor(String key, WebDriver driver, Runnable search) {
+        CompletableFuture<SessionSnapshot> mine = new CompletableFuture<>();
+        CompletableFuture<SessionSnapshot> existing = SNAPSHOTS.putIfAbsent(key, mine);
+
+        if (existing == null) {
+            try {
+                search.run();
+                SessionSnapshot snapshot = SessionSnapshot.capture(driver);
+                mine.complete(snapshot);
+                return snapshot;
+            } catch (RuntimeException | Error e) {
+                // Let the next caller try again rather than failing everyone on one broken run
+                SNAPSHOTS.remove(key, mine);
+                mine.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        SessionSnapshot snapshot;
+        try {
+            snapshot = existing.join();
+        } catch (CompletionException e) {
+            // The search in flight failed: do it ourselves
+            return resultsFor(key, driver, search);
+        }
+        EventLog.info("search.restored", "Restoring shared search '" + key + "' instead of replaying it");
+        snapshot.restore(driver);
+        return snapshot;
+    }
+
+    /**
+     * Drop every cached snapshot.
+     */
+    public static void clear() {
+        SNAPSHOTS.clear();
+    }
+}
@@ -1,10 +1,16 @@
 package PageObject.helpers;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
@@ -14,13 +20,110 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 /**
  * SmartWaits utility class.
  * Provides reusable Selenium explicit and fluent waits with Duration (Selenium 4 style).
+ *
+ * Two engines:
+ *  - OBSERVER (default): a MutationObserver injected into the page resolves as soon as the locator is
+ *    visible / stable / removed, and Java awaits it with a single executeAsyncScript call.
+ *  - POLLING: the classic WebDriverWait loop; also used automatically when the in-page script cannot run
+ *    (navigation during the wait, locator type with no CSS/XPath form, non-JS driver).
+ *
+ * Every wait is recorded in WaitStats (locator, calling page-object method, latency, timeouts, iterations),
+ * and is clamped to the running test's TestBudget: once the budget is spent, waits fail fast with
+ * TimeBudgetExceededException instead of each one waiting out its own timeout.
+ *
+ * SmartWaits also owns the implicit wait: ownTimeouts() sets it to zero so it never stacks on top of
+ * the explicit waits.
  */
 public class SmartWaits {
 
+    /**
+     * Wait engine.
+     */
+    public enum Mode { OBSERVER, POLLING }
+
+    /**
+     * What the in-page observer waits for.
+     */
+    public enum Condition {
+        /** Present and rendered with a non-empty box. */
+        VISIBLE,
+        /** Visible and neither mutated nor moved for a short quiet period. */
+        STABLE,
+        /** Absent or no longer visible. */
+        REMOVED
+    }
+
+    // Quiet period used by Condition.STABLE
+    private static final long STABLE_QUIET_MILLIS = 150;
+
+    // Upper bound for executeAsyncScript; the script enforces the real per-wait timeout itself
+    private static final Duration SCRIPT_TIMEOUT = Duration.ofMinutes(5);
+
+    private static volatile Mode defaultMode = Mode.OBSERVER;
+
+    // Runs in the browser: arguments = using ("css selector" | "xpath"), value, condition, timeout ms, quiet ms, callback
+    private static final String OBSERVE_SCRIPT =
+            "var callback = arguments[arguments.length - 1];"
+          + "var using = arguments[0], value = arguments[1], cond = arguments[2], quiet = arguments[4];"
+          + "function find() {"
+          + "  if (using === 'xpath') return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+          + "  return document.querySelector(value);"
+          + "}"
+          + "function visible(el) {"
+          + "  if (!el || !el.isConnected) return false;"
+          + "  var s = window.getComputedStyle(el);"
+          + "  if (s.display === 'none' || s.visibility === 'hidden' || parseFloat(s.opacity) === 0) return false;"
+          + "  var r = el.getBoundingClientRect(); return r.width > 0 && r.height > 0;"
+          + "}"
+          + "function rect(el) { var r = el.getBoundingClientRect(); return [r.x, r.y, r.width, r.height].join(); }"
+          + "var done = false, observer, timer, quietTimer = null, mutations = 0;"
+          + "function finish(res) {"
+          + "  if (done) return; done = true;"
+          + "  observer.disconnect(); clearTimeout(timer); clearTimeout(quietTimer);"
+          + "  res.mutations = mutations; callback(res);"
+          + "}"
+          + "function check() {"
+          + "  var el = find();"
+          + "  if (cond === 'REMOVED') { if (!visible(el)) finish({ ok: true }); return; }"
+          + "  if (!visible(el)) { clearTimeout(quietTimer); quietTimer = null; return; }"
+          + "  if (cond === 'VISIBLE') { finish({ ok: true, element: el }); return; }"
+          + "  clearTimeout(quietTimer);"
+          + "  var before = rect(el);"
+          + "  quietTimer = setTimeout(function () {"
+          + "    if (find() === el && visible(el) && rect(el) === before) finish({ ok: true, element: el }); else check();"
+          + "  }, quiet);"
+          + "}"
+          + "observer = new MutationObserver(function () { mutations++; check(); });"
+          + "observer.observe(document.documentElement || document, { childList: true, subtree: true, attributes: true, characterData: true });"
+          + "timer = setTimeout(function () { finish({ ok: false }); }, arguments[3]);"
+          + "check();";
+
     private final WebDriver driver;
+    private final Mode mode;
 
     public SmartWaits(WebDriver driver) {
+        this(driver, defaultMode);
+    }
+
+    public SmartWaits(WebDriver driver, Mode mode) {
         this.driver = driver;
+        this.mode = (driver instanceof JavascriptExecutor) ? mode : Mode.POLLING;
+    }
+
+    /**
+     * Engine used by SmartWaits created without an explicit mode (set from "waits.mode").
+     */
+    public static void setDefaultMode(Mode mode) {
+        defaultMode = mode;
+    }
+
+    /**
+     * Take ownership of the session timeouts: no implicit wait (explicit waits only),
+     * and a script timeout long enough for any observer wait.
+     */
+    public static void ownTimeouts(WebDriver driver) {
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        driver.manage().timeouts().scriptTimeout(SCRIPT_TIMEOUT);
     }
 
     /**
@@ -30,26 +133,211 @@ public class SmartWaits {
      * @return The visible WebElement
      */
     public WebElement waitVisible(By locator, long seconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(seconds));
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        WaitStats.Probe probe = WaitStats.start(locator.toString(), "visible");
+        Timeout timeout = Timeout.of("waitVisible " + locator, seconds);
+        return recorded(probe, timeout, () -> {
+            if (mode == Mode.OBSERVER) {
+                Map<?, ?> result = observe(locator, Condition.VISIBLE, timeout, probe);
+                if (result != null) {
+                    return (WebElement) result.get("element");
+                }
+            }
+            return poll(probe, timeout, ExpectedConditions.visibilityOfElementLocated(locator));
+        });
+    }
+
+    /**
+     * Wait until an element is visible and has stopped changing (no DOM mutations, no movement)
+     * for a short quiet period, e.g. a results list that renders in several passes.
+     */
+    public WebElement waitStable(By locator, long seconds) {
+        WaitStats.Probe probe = WaitStats.start(locator.toString(), "stable");
+        Timeout timeout = Timeout.of("waitStable " + locator, seconds);
+        return recorded(probe, timeout, () -> {
+            if (mode == Mode.OBSERVER) {
+                Map<?, ?> result = observe(locator, Condition.STABLE, timeout, probe);
+                if (result != null) {
+                    return (WebElement) result.get("element");
+                }
+            }
+            // Polling approximation: visible, then the same element still visible after the quiet period
+            return poll(probe, timeout, d -> {
+                WebElement first = ExpectedConditions.visibilityOfElementLocated(locator).apply(d);
+                if (first == null) {
+                    return null;
+                }
+                sleepQuietly(STABLE_QUIET_MILLIS);
+                WebElement second = ExpectedConditions.visibilityOfElementLocated(locator).apply(d);
+                return first.equals(second) ? second : null;
+            });
+        });
+    }
+
+    /**
+     * Wait until an element is gone or hidden.
+     */
+    public void waitRemoved(By locator, long seconds) {
+        WaitStats.Probe probe = WaitStats.start(locator.toString(), "removed");
+        Timeout timeout = Timeout.of("waitRemoved " + locator, seconds);
+        recorded(probe, timeout, () -> {
+            if (mode == Mode.OBSERVER && observe(locator, Condition.REMOVED, timeout, probe) != null) {
+                return true;
+            }
+            return poll(probe, timeout, ExpectedConditions.invisibilityOfElementLocated(locator));
+        });
     }
 
     /**
      * Wait for an element to be clickable before returning it.
      */
     public WebElement waitClickable(By locator, long seconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(seconds));
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        WaitStats.Probe probe = WaitStats.start(locator.toString(), "clickable");
+        Timeout timeout = Timeout.of("waitClickable " + locator, seconds);
+        return recorded(probe, timeout, () -> {
+            if (mode == Mode.OBSERVER) {
+                // Visibility resolves in-page; enabled state is then normally true on the first poll
+                observe(locator, Condition.VISIBLE, timeout, probe);
+            }
+            return poll(probe, timeout, ExpectedConditions.elementToBeClickable(locator));
+        });
     }
 
     /**
      * Custom FluentWait — waits with polling intervals and ignores exceptions.
      */
     public WebElement fluentWait(By locator, long timeoutSeconds, long pollMillis) {
-        Wait<WebDriver> wait = new FluentWait<>(driver)
-                .withTimeout(Duration.ofSeconds(timeoutSeconds))
-                .pollingEvery(Duration.ofMillis(pollMillis))
-                .ignoring(NoSuchElementException.class);
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        WaitStats.Probe probe = WaitStats.start(locator.toString(), "fluent");
+        Timeout timeout = Timeout.of("fluentWait " + locator, timeoutSeconds);
+        return recorded(probe, timeout, () -> {
+            Wait<WebDriver> wait = new FluentWait<>(driver)
+                    .withTimeout(timeout.allowed())
+                    .pollingEvery(Duration.ofMillis(pollMillis))
+                    .ignoring(NoSuchElementException.class);
+            return wait.until(counted(probe, ExpectedConditions.visibilityOfElementLocated(locator)));
+        });
+    }
+
+    /**
+     * Wait until a custom condition returns a non-null / non-false value.
+     * Recorded under the calling page-object method, since there is no locator.
+     * @param condition evaluated against the driver on every poll
+     * @param seconds   Timeout in seconds
+     * @return The condition's first truthy value
+     */
+    public <T> T until(Function<WebDriver, T> condition, long seconds) {
+        WaitStats.Probe probe = WaitStats.start("condition", "until");
+        Timeout timeout = Timeout.of("until condition", seconds);
+        return recorded(probe, timeout, () -> new WebDriverWait(driver, timeout.allowed()).until(counted(probe, condition)));
+    }
+
+    /* ===========================
+       Instrumentation
+       =========================== */
+
+    /**
+     * A wait's own timeout, cut down to the remaining TestBudget when that is shorter.
+     */
+    private record Timeout(String what, Duration requested, Duration allowed) {
+
+        static Timeout of(String what, long seconds) {
+            Duration requested = Duration.ofSeconds(seconds);
+            return new Timeout(what, requested, TestBudget.clamp(requested, what));
+        }
+
+        boolean limitedByBudget() {
+            return allowed.compareTo(requested) < 0;
+        }
+    }
+
+    private static <T> T recorded(WaitStats.Probe probe, Timeout timeout, Supplier<T> wait) {
+        try {
+            T result = wait.get();
+            probe.satisfied();
+            return result;
+        } catch (TimeoutException e) {
+            probe.timedOut();
+            TestBudget budget = TestBudget.current();
+            if (budget != null && timeout.limitedByBudget() && !(e instanceof TimeBudgetExceededException)) {
+                throw budget.exhausted(timeout.what(), e);
+            }
+            throw e;
+        }
+    }
+
+    private <T> T poll(WaitStats.Probe probe, Timeout timeout, Function<WebDriver, T> condition) {
+        // Whatever the observer already spent counts against the same timeout
+        WebDriverWait wait = new WebDriverWait(driver, remaining(probe, timeout.allowed()));
+        return wait.until(counted(probe, condition));
+    }
+
+    private static <T> Function<WebDriver, T> counted(WaitStats.Probe probe, Function<WebDriver, T> condition) {
+        return d -> {
+            probe.iteration();
+            return condition.apply(d);
+        };
+    }
+
+    /* ===========================
+       Observer engine
+       =========================== */
+
+    /**
+     * Await the condition in the page with one async-script call.
+     *
+     * @return the script result when satisfied, or null when the observer could not run (caller polls instead)
+     * @throws TimeoutException when the observer ran and the condition was not met in time
+     */
+    private Map<?, ?> observe(By locator, Condition condition, Timeout timeout, WaitStats.Probe probe) {
+        String[] query = toQuery(locator);
+        if (query == null) {
+            return null;
+        }
+        Object raw;
+        try {
+            raw = ((JavascriptExecutor) driver).executeAsyncScript(OBSERVE_SCRIPT,
+                    query[0], query[1], condition.name(), timeout.allowed().toMillis(), STABLE_QUIET_MILLIS);
+        } catch (WebDriverException e) {
+            // Page navigated mid-wait, CSP blocked the script, script timeout... -> polling fallback
+            return null;
+        }
+        if (!(raw instanceof Map)) {
+            return null;
+        }
+        Map<?, ?> result = (Map<?, ?>) raw;
+        Object mutations = result.get("mutations");
+        probe.iterations(1 + (mutations instanceof Number ? ((Number) mutations).intValue() : 0));
+        if (!Boolean.TRUE.equals(result.get("ok"))) {
+            throw new TimeoutException("Expected condition failed: waiting for " + locator + " to be "
+                    + condition + " (tried for " + timeout.allowed().toMillis() / 1000.0 + " second(s), observer)");
+        }
+        return result;
+    }
+
+    /**
+     * Translate a locator into a CSS selector or XPath the page can evaluate, or null if it has none.
+     */
+    static String[] toQuery(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters params = ((By.Remotable) locator).getRemoteParameters();
+        String using = params.using();
+        if ("css selector".equals(using) || "xpath".equals(using)) {
+            return new String[] { using, String.valueOf(params.value()) };
+        }
+        return null;
+    }
+
+    private static Duration remaining(WaitStats.Probe probe, Duration timeout) {
+        long left = timeout.toNanos() - probe.elapsedNanos();
+        return Duration.ofNanos(Math.max(left, 0));
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
@@ -0,0 +1,112 @@
+package PageObject.helpers;
+
+import java.time.Duration;
+
+/**
+ * TestBudget class.
+ * One wall-clock deadline per running test, kept in a ThreadLocal (set by a TestNG listener).
+ *
+ * - Every SmartWaits call is clamped to what is left of the budget, so timeouts no longer stack:
+ *   after a silent no-op, the next waits share the remaining time instead of each waiting its full timeout.
+ * - When the budget runs out the wait fails with TimeBudgetExceededException
+ *   ("budget exhausted at step HotelsResult.applyFilter ..."), naming the page-object step that was running.
+ * - Threads without a budget (benchmarks, background prefetch) are not limited.
+ */
+public final class TestBudget {
+
+    private static final ThreadLocal<TestBudget> CURRENT = new ThreadLocal<>();
+
+    private final String test;
+    private final Duration budget;
+    private final long startNanos;
+    private final long deadlineNanos;
+
+    private TestBudget(String test, Duration budget) {
+        this.test = test;
+        this.budget = budget;
+        this.startNanos = System.nanoTime();
+        this.deadlineNanos = startNanos + budget.toNanos();
+    }
+
+    /**
+     * Start a budget for the test running on this thread (replacing any previous one).
+     */
+    public static TestBudget start(String test, Duration budget) {
+        TestBudget started = new TestBudget(test, budget);
+        CURRENT.set(started);
+        return started;
+    }
+
+    /**
+     * Budget of the test running on this thread, or null when none.
+     */
+    public static TestBudget current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Run the current thread under the given budget (e.g. a worker thread acting for a test); null clears it.
+     */
+    public static void attach(TestBudget budget) {
+        if (budget == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(budget);
+        }
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * The requested timeout, or what is left of this thread's budget if that is shorter.
+     *
+     * @param what the wait or action, for the error message (e.g. "waitVisible By.id: undefined-input")
+     * @throws TimeBudgetExceededException if the budget is already used up
+     */
+    public static Duration clamp(Duration requested, String what) {
+        TestBudget budget = CURRENT.get();
+        return budget == null ? requested : budget.limit(requested, what);
+    }
+
+    /**
+     * Fail fast if this thread's budget is used up (for actions that do not wait).
+     */
+    public static void check(String what) {
+        TestBudget budget = CURRENT.get();
+        if (budget != null && budget.remaining().isZero()) {
+            throw budget.exhausted(what, null);
+        }
+    }
+
+    public Duration limit(Duration requested, String what) {
+        Duration left = remaining();
+        if (left.isZero()) {
+            throw exhausted(what, null);
+        }
+        return requested.compareTo(left) <= 0 ? requested : left;
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    public Duration budget() {
+        return budget;
+    }
+
+    public String test() {
+        return test;
+    }
+
+    /**
+     * Error for a wait or action that ran out of budget, attributed to the current page-object step.
+     */
+    public TimeBudgetExceededException exhausted(String what, Throwable cause) {
+        double elapsed = (System.nanoTime() - startNanos) / 1e9;
+        return new TimeBudgetExceededException(String.format(
+                "Time budget of %ds for %s exhausted at step %s (%s) after %.1fs",
+                budget.toSeconds(), test, CallerInfo.pageObjectMethod(), what, elapsed), cause);
+    }
+}
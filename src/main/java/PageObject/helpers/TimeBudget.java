@@ -0,0 +1,20 @@
+package PageObject.helpers;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the per-test time budget ("budget.defaultSeconds") for a test class or a single test method.
+ * The method annotation wins over the class annotation; 0 turns the budget off.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface TimeBudget {
+
+    /**
+     * Wall-clock seconds the whole test may spend in waits and page-object actions.
+     */
+    long seconds();
+}
@@ -0,0 +1,16 @@
+package PageObject.helpers;
+
+import org.openqa.selenium.TimeoutException;
+
+/**
+ * Thrown when a test has used up its TestBudget: the message names the test, the budget
+ * and the page-object step that was running when it ran out.
+ */
+public class TimeBudgetExceededException extends TimeoutException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TimeBudgetExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,215 @@
+package PageObject.helpers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.TypeToken;
+
+/**
+ * TrafficArchive class.
+ * On-disk store of recorded HTTP responses: "index.json" plus one body file per response.
+ * Responses are keyed by method + host + path/query (+ a hash of the request body for POSTs,
+ * since search/autocomplete calls share one URL and differ by payload).
+ */
+public final class TrafficArchive {
+
+    private static final String INDEX = "index.json";
+    private static final Map<Path, TrafficArchive> OPEN = new HashMap<>();
+
+    private final Path dir;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile String startUrl;
+
+    /**
+     * One recorded response.
+     */
+    public record Entry(String method, String url, int status, String contentType, String requestHash, String file) {
+
+        String host() {
+            return URI.create(url).getHost();
+        }
+
+        String pathAndQuery() {
+            return TrafficArchive.pathAndQuery(URI.create(url));
+        }
+    }
+
+    private TrafficArchive(Path dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * Shared archive for a directory (loaded from disk if it already holds an index).
+     */
+    public static synchronized TrafficArchive open(Path dir) {
+        Path key = dir.toAbsolutePath().normalize();
+        return OPEN.computeIfAbsent(key, k -> {
+            TrafficArchive archive = new TrafficArchive(k);
+            archive.load();
+            return archive;
+        });
+    }
+
+    public Path dir() {
+        return dir;
+    }
+
+    /**
+     * First page document recorded (after redirects); its host is replayed at the server root.
+     */
+    public String startUrl() {
+        return startUrl;
+    }
+
+    public void setStartUrlIfAbsent(String url) {
+        if (startUrl == null) {
+            startUrl = url;
+        }
+    }
+
+    public String mainHost() {
+        return startUrl == null ? null : URI.create(startUrl).getHost();
+    }
+
+    /**
+     * Every host that has at least one recorded response.
+     */
+    public Set<String> hosts() {
+        Set<String> hosts = new LinkedHashSet<>();
+        for (Entry e : entries.values()) {
+            hosts.add(e.host());
+        }
+        return hosts;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Store a response (a later recording of the same key replaces the earlier one).
+     */
+    public void put(String method, String url, int status, String contentType, String requestBody, byte[] body) {
+        URI uri = URI.create(url);
+        String requestHash = requestBody == null || requestBody.isEmpty() ? "" : sha1(requestBody);
+        String key = key(method, uri.getHost(), pathAndQuery(uri), requestHash);
+        String file = "bodies/" + sha1(key) + ".bin";
+        try {
+            Path target = dir.resolve(file);
+            Files.createDirectories(target.getParent());
+            Files.write(target, body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        entries.put(key, new Entry(method, url, status, contentType, requestHash, file));
+    }
+
+    /**
+     * Recorded response for a request: exact payload match first, then any payload for the same URL.
+     */
+    public Entry find(String method, String host, String pathAndQuery, String requestBody) {
+        String requestHash = requestBody == null || requestBody.isEmpty() ? "" : sha1(requestBody);
+        Entry exact = entries.get(key(method, host, pathAndQuery, requestHash));
+        if (exact != null || requestHash.isEmpty()) {
+            return exact;
+        }
+        for (Entry e : entries.values()) {
+            if (e.method().equals(method) && e.host().equals(host) && e.pathAndQuery().equals(pathAndQuery)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    public byte[] body(Entry entry) {
+        try {
+            return Files.readAllBytes(dir.resolve(entry.file()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write index.json next to the bodies.
+     */
+    public synchronized void save() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Entry e : entries.values()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("method", e.method());
+            row.put("url", e.url());
+            row.put("status", e.status());
+            row.put("contentType", e.contentType());
+            row.put("requestHash", e.requestHash());
+            row.put("file", e.file());
+            rows.add(row);
+        }
+        Map<String, Object> index = new LinkedHashMap<>();
+        index.put("startUrl", startUrl);
+        index.put("entries", rows);
+        try {
+            Files.createDirectories(dir);
+            Files.writeString(dir.resolve(INDEX), new Json().toJson(index), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /* ===========================
+       Internals
+       =========================== */
+
+    private void load() {
+        Path index = dir.resolve(INDEX);
+        if (!Files.exists(index)) {
+            return;
+        }
+        try {
+            Map<String, Object> data = new Json().toType(Files.readString(index, StandardCharsets.UTF_8),
+                    new TypeToken<Map<String, Object>>() { }.getType());
+            startUrl = (String) data.get("startUrl");
+            for (Object raw : (List<?>) data.get("entries")) {
+                Map<?, ?> row = (Map<?, ?>) raw;
+                Entry e = new Entry((String) row.get("method"), (String) row.get("url"), ((Number) row.get("status")).intValue(),
+                        (String) row.get("contentType"), (String) row.get("requestHash"), (String) row.get("file"));
+                entries.put(key(e.method(), e.host(), e.pathAndQuery(), e.requestHash()), e);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String pathAndQuery(URI uri) {
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        return uri.getRawQuery() == null ? path : path + "?" + uri.getRawQuery();
+    }
+
+    private static String key(String method, String host, String pathAndQuery, String requestHash) {
+        return method + " " + host + pathAndQuery + (requestHash.isEmpty() ? "" : " #" + requestHash);
+    }
+
+    private static String sha1(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package PageObject.helpers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+
+/**
+ * TrafficRecorder class.
+ * Captures the responses a session receives (page, scripts, styles, XHR/fetch such as autocomplete
+ * and search) into a TrafficArchive, through the Chrome DevTools "Network" domain.
+ */
+public final class TrafficRecorder {
+
+    private static final Set<WebDriver> ATTACHED = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    private final DevTools devTools;
+    private final TrafficArchive archive;
+    private final Set<String> types;
+    private final Map<String, Map<?, ?>> requests = new ConcurrentHashMap<>();
+    private final Map<String, Map<?, ?>> responses = new ConcurrentHashMap<>();
+
+    private TrafficRecorder(DevTools devTools, TrafficArchive archive, Set<String> types) {
+        this.devTools = devTools;
+        this.archive = archive;
+        this.types = types;
+    }
+
+    /**
+     * Start recording a session into the archive (once per session).
+     *
+     * @param types CDP resource types to keep (e.g. Document, Script, XHR, Fetch)
+     */
+    public static void attach(WebDriver driver, TrafficArchive archive, Set<String> types) {
+        if (!(driver instanceof HasDevTools)) {
+            throw new IllegalStateException("Recording needs Chrome DevTools; " + driver.getClass().getSimpleName() + " has none");
+        }
+        if (!ATTACHED.add(driver)) {
+            return;
+        }
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        new TrafficRecorder(devTools, archive, types).listen();
+    }
+
+    /**
+     * Forget a session that is being quit.
+     */
+    public static void forget(WebDriver driver) {
+        ATTACHED.remove(driver);
+    }
+
+    private void listen() {
+        devTools.send(new Command<Void>("Network.enable", Map.of()));
+        devTools.addListener(event("Network.requestWillBeSent"), e -> {
+            if (types.contains(String.valueOf(e.get("type")))) {
+                requests.put(String.valueOf(e.get("requestId")), (Map<?, ?>) e.get("request"));
+            }
+        });
+        devTools.addListener(event("Network.responseReceived"), e -> {
+            String id = String.valueOf(e.get("requestId"));
+            if (requests.containsKey(id)) {
+                Map<?, ?> response = (Map<?, ?>) e.get("response");
+                responses.put(id, response);
+                if ("Document".equals(String.valueOf(e.get("type")))) {
+                    archive.setStartUrlIfAbsent(String.valueOf(response.get("url")));
+                }
+            }
+        });
+        devTools.addListener(event("Network.loadingFinished"), e -> store(String.valueOf(e.get("requestId"))));
+        devTools.addListener(event("Network.loadingFailed"), e -> {
+            String id = String.valueOf(e.get("requestId"));
+            requests.remove(id);
+            responses.remove(id);
+        });
+    }
+
+    private void store(String requestId) {
+        Map<?, ?> request = requests.remove(requestId);
+        Map<?, ?> response = responses.remove(requestId);
+        if (request == null || response == null) {
+            return;
+        }
+        try {
+            Map<?, ?> result = devTools.send(new Command<Map<?, ?>>("Network.getResponseBody", Map.of("requestId", requestId), Map.class));
+            String body = String.valueOf(result.get("body"));
+            byte[] bytes = Boolean.TRUE.equals(result.get("base64Encoded"))
+                    ? Base64.getDecoder().decode(body)
+                    : body.getBytes(StandardCharsets.UTF_8);
+            Object postData = request.get("postData");
+            archive.put(String.valueOf(request.get("method")), String.valueOf(response.get("url")),
+                    ((Number) response.get("status")).intValue(), String.valueOf(response.get("mimeType")),
+                    postData == null ? null : String.valueOf(postData), bytes);
+        } catch (WebDriverException e) {
+            // Body already evicted by the browser (e.g. the page navigated away): skip this response
+        }
+    }
+
+    private static Event<Map<?, ?>> event(String method) {
+        return new Event<>(method, input -> (Map<?, ?>) input.read(Map.class));
+    }
+}
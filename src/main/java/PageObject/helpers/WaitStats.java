@@ -0,0 +1,175 @@
+package PageObject.helpers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WaitStats class.
+ * JVM-wide record of every SmartWaits call, grouped by (locator, calling page-object method).
+ * Each group keeps counters and a log2 latency histogram in lock-free adders,
+ * so recording is cheap enough to stay on for every wait.
+ */
+public final class WaitStats {
+
+    // Bucket i counts waits that took < 2^i ms (the last bucket is open-ended)
+    static final int BUCKETS = 18;
+
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private WaitStats() {
+    }
+
+    /**
+     * Start timing one wait. The caller page-object method is captured now.
+     */
+    public static Probe start(String locator, String kind) {
+        return new Probe(locator, kind, CallerInfo.pageObjectMethod());
+    }
+
+    /**
+     * Snapshot of every group, slowest total wall-clock first.
+     */
+    public static List<Map<String, Object>> snapshot() {
+        List<Entry> entries = new ArrayList<>(ENTRIES.values());
+        entries.sort(Comparator.comparingLong((Entry e) -> e.totalNanos.sum()).reversed());
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Entry e : entries) {
+            rows.add(e.toMap());
+        }
+        return rows;
+    }
+
+    /**
+     * Forget everything recorded so far.
+     */
+    public static void reset() {
+        ENTRIES.clear();
+    }
+
+    /**
+     * One wait in progress.
+     */
+    public static final class Probe {
+        private final String locator;
+        private final String kind;
+        private final String caller;
+        private final long startNanos = System.nanoTime();
+        private int iterations = 0;
+
+        private Probe(String locator, String kind, String caller) {
+            this.locator = locator;
+            this.kind = kind;
+            this.caller = caller;
+        }
+
+        /** Time since the wait started. */
+        public long elapsedNanos() {
+            return System.nanoTime() - startNanos;
+        }
+
+        /** One more evaluation of the condition (polling loop or observer check). */
+        public void iteration() {
+            iterations++;
+        }
+
+        /** Add several evaluations at once (e.g. the observer's mutation callbacks). */
+        public void iterations(int count) {
+            iterations += count;
+        }
+
+        public void satisfied() {
+            record(false);
+        }
+
+        public void timedOut() {
+            record(true);
+        }
+
+        private void record(boolean timeout) {
+            long elapsed = System.nanoTime() - startNanos;
+            ENTRIES.computeIfAbsent(locator + "\u0000" + caller, k -> new Entry(locator, caller))
+                    .add(kind, elapsed, iterations, timeout);
+        }
+    }
+
+    private static final class Entry {
+        private final String locator;
+        private final String caller;
+        private final Map<String, LongAdder> kinds = new ConcurrentHashMap<>();
+        private final LongAdder count = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder iterations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+        Entry(String locator, String caller) {
+            this.locator = locator;
+            this.caller = caller;
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void add(String kind, long nanos, int evaluations, boolean timeout) {
+            kinds.computeIfAbsent(kind, k -> new LongAdder()).increment();
+            count.increment();
+            iterations.add(evaluations);
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            if (timeout) {
+                timeouts.increment();
+            }
+            long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            int bucket = millis == 0 ? 0 : 64 - Long.numberOfLeadingZeros(millis);
+            buckets[Math.min(bucket, BUCKETS - 1)].increment();
+        }
+
+        /**
+         * Approximate percentile: upper bound of the bucket holding it.
+         */
+        long percentileMillis(double fraction) {
+            long total = count.sum();
+            long target = (long) Math.ceil(total * fraction);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i].sum();
+                if (seen >= target && seen > 0) {
+                    return 1L << i;
+                }
+            }
+            return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+        }
+
+        Map<String, Object> toMap() {
+            long n = count.sum();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("locator", locator);
+            row.put("caller", caller);
+            Map<String, Long> byKind = new LinkedHashMap<>();
+            kinds.forEach((k, v) -> byKind.put(k, v.sum()));
+            row.put("kinds", byKind);
+            row.put("count", n);
+            row.put("timeouts", timeouts.sum());
+            row.put("iterations", iterations.sum());
+            row.put("totalMillis", TimeUnit.NANOSECONDS.toMillis(totalNanos.sum()));
+            row.put("avgMillis", n == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / n));
+            row.put("p50Millis", percentileMillis(0.50));
+            row.put("p95Millis", percentileMillis(0.95));
+            row.put("maxMillis", TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+            List<Long> histogram = new ArrayList<>();
+            for (LongAdder bucket : buckets) {
+                histogram.add(bucket.sum());
+            }
+            row.put("histogramLog2Millis", histogram);
+            return row;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Iterator;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import PageObject.BasePage;
+import PageObject.HomeTrivagoPageObject;
+import PageObject.HotelsResult;
+import PageObject.helpers.SharedSearches;
+import PageObject.helpers.TimeBudget;
+import test.data.ScenarioSource;
+import test.listeners.FailureArtifactListener;
+import test.sharding.ShardRows;
+
+/**
+ * (location, hotel, filter) matrix streamed from src/test/resources/scenarios/filter-matrix.csv.
+ * - Rows run in parallel (dataProviderThreadCount in global.properties bounds how many at once);
+ *   TestNG drains the provider before the first row starts; sharding (@ShardRows) keeps only this shard's rows.
+ * - Each row gets its own browser session (borrowed from the pool when pool.enabled=true).
+ * - Each row has its own 120 s time budget for all its waits (@TimeBudget).
+ * - Identical searches are done once per suite and restored from a snapshot (SharedSearches).
+ * - A filter cell may combine filters with '+' (e.g. "Spa+Free WiFi"); they are applied together.
+ */
+@ShardRows
+@TimeBudget(seconds = 120)
+public class TrivagoTest_FilterMatrix {
+
+    private static final String SIZE_DESCRIPTION = "Double room";
+    private static final int NUMBER_OF_MONTHS = 1;
+
+    @Test(dataProvider = "filterMatrix")
+    public void hotelPresenceAfterFilter(String location, String nameHotel, String nameFilter, String expected) throws Exception {
+        System.out.println("\n=== TC: hotelPresenceAfterFilter [" + location + " / " + nameHotel + " / " + nameFilter + "] ===");
+        BasePage session = new BasePage();
+        session.setup(getClass());      // this class's @NetworkBlocking, not BasePage's
+        try {
+            HomeTrivagoPageObject home = new HomeTrivagoPageObject(session.getDriver());
+            HotelsResult results = new HotelsResult(session.getDriver());
+
+            String searchKey = "findLocation|" + location + "|" + SIZE_DESCRIPTION + "|" + NUMBER_OF_MONTHS;
+            SharedSearches.resultsFor(searchKey, session.getDriver(), () -> {
+                home.imputLocation(location);
+                home.selectCheckInDate();
+                home.selectCheckOutDate(NUMBER_OF_MONTHS);
+                home.selectRoomSize(SIZE_DESCRIPTION);
+                assertTrue(home.searchButton(), "Search button was not clicked / not visible");
+                results.waitForResults();
+            });
+
+            // "Spa+Free WiFi": every filter picked in one selector session, one results reload
+            String[] filters = nameFilter.split("\\s*\\+\\s*");
+            assertTrue(results.applyFilters(filters), "Filter could not be applied: " + nameFilter);
+            assertTrue(results.isFilterApplied(filters.length), "Toolbar does not show (" + filters.length + ") Filter");
+            assertEquals(results.IsNameHotelList(nameHotel, nameFilter), Boolean.parseBoolean(expected),
+                    "Unexpected presence of '" + nameHotel + "' with filter " + nameFilter);
+        } catch (AssertionError | RuntimeException e) {
+            // The session is released below, before TestNG reports the failure: capture it now
+            FailureArtifactListener.capture(session.getDriver());
+            throw e;
+        } finally {
+            session.finish();
+        }
+    }
+
+    @DataProvider(parallel = true)
+    public Iterator<Object[]> filterMatrix() {
+        return ScenarioSource.rows(System.getProperty("scenarios.matrix", "scenarios/filter-matrix.csv"),
+                "location", "nameHotel", "nameFilter", "expected");
+    }
+}
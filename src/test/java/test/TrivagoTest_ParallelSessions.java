@@ -0,0 +1,114 @@
+package test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.TestListenerAdapter;
+import org.testng.TestNG;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import PageObject.BasePage;
+
+/**
+ * Proves that BasePage sessions are isolated when TestNG runs classes in parallel.
+ * - Starts an inner TestNG run with parallel="classes" and one thread per probe class.
+ * - Every probe must reach a shared barrier at the same time (i.e. N classes really run at once).
+ * - Every probe must have seen its own WebDriver instance and its own window handle.
+ */
+public class TrivagoTest_ParallelSessions {
+
+    private static final int PROBES = 3;
+
+    // Shared between the probe classes of the inner run
+    private static CyclicBarrier barrier;
+    private static final Map<String, WebDriver> driversByClass = new ConcurrentHashMap<>();
+    private static final Map<String, String> handlesByClass = new ConcurrentHashMap<>();
+
+    @Test
+    public void classesRunAtOnceInIsolatedSessions() {
+        System.out.println("\n=== TC: classesRunAtOnceInIsolatedSessions ===");
+        barrier = new CyclicBarrier(PROBES);
+        driversByClass.clear();
+        handlesByClass.clear();
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Parallel sessions probe");
+        suite.setParallel(XmlSuite.ParallelMode.CLASSES);
+        suite.setThreadCount(PROBES);
+
+        XmlTest xmlTest = new XmlTest(suite);
+        xmlTest.setName("Probes");
+        List<XmlClass> classes = new ArrayList<>();
+        classes.add(new XmlClass(ProbeA.class));
+        classes.add(new XmlClass(ProbeB.class));
+        classes.add(new XmlClass(ProbeC.class));
+        xmlTest.setXmlClasses(classes);
+
+        TestListenerAdapter listener = new TestListenerAdapter();
+        TestNG testng = new TestNG();
+        testng.setUseDefaultListeners(false);
+        testng.setXmlSuites(Collections.singletonList(suite));
+        testng.addListener(listener);
+        testng.run();
+
+        assertEquals(listener.getPassedTests().size(), PROBES,
+                "Probe failures: " + listener.getFailedTests() + " / config failures: " + listener.getConfigurationFailures());
+
+        Set<WebDriver> distinctDrivers = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinctDrivers.addAll(driversByClass.values());
+        assertEquals(distinctDrivers.size(), PROBES, "Classes shared a WebDriver instance");
+        assertEquals(Set.copyOf(handlesByClass.values()).size(), PROBES, "Classes shared a browser window");
+    }
+
+    /* ---------------- Probe classes (run by the inner TestNG) ---------------- */
+
+    public abstract static class SessionProbe extends BasePage {
+
+        @BeforeClass(alwaysRun = true)
+        public void beforeClass() throws Exception {
+            setup();
+        }
+
+        @Test
+        public void holdSessionWhileOthersRun() throws Exception {
+            String name = getClass().getSimpleName();
+            driversByClass.put(name, getDriver());
+            handlesByClass.put(name, getDriver().getWindowHandle());
+            System.out.println(name + " running on " + Thread.currentThread().getName());
+
+            // Only passes if all probe classes are alive at the same moment
+            barrier.await(120, TimeUnit.SECONDS);
+            assertTrue(getDriver().getCurrentUrl().startsWith("http"), "Session lost its page: " + name);
+        }
+
+        @AfterClass(alwaysRun = true)
+        public void cleanUp() {
+            finish();
+        }
+    }
+
+    public static class ProbeA extends SessionProbe {
+    }
+
+    public static class ProbeB extends SessionProbe {
+    }
+
+    public static class ProbeC extends SessionProbe {
+    }
+}
@@ -8,6 +8,8 @@ import static org.testng.Assert.assertTrue;
 import PageObject.BasePage;
 import PageObject.HomeTrivagoPageObject;
 import PageObject.HotelsResult;
+import PageObject.helpers.SessionSnapshot;
+import PageObject.helpers.SharedSearches;
 
 /**
  * Trivago SPA Filter E2E tests.
@@ -20,6 +22,9 @@ public class TrivagoTest_SpaFilter extends BasePage {
     private HomeTrivagoPageObject home;
     private HotelsResult results;
 
+    // Result page right after the search (no filter), restored by each lookup before it filters
+    private SessionSnapshot searchState;
+
     /** Open browser and navigate once per class */
     @BeforeClass(alwaysRun = true)
     public void beforeClass() throws Exception {
@@ -39,11 +44,16 @@ public class TrivagoTest_SpaFilter extends BasePage {
             @Optional("1") int numberOfMonths
     ) {
         System.out.println("\n=== TC: findLocation ===");
-        home.imputLocation(location);
-        home.selectCheckInDate();
-        home.selectCheckOutDate(numberOfMonths);
-        home.selectRoomSize(sizeDescription);
-        assertTrue(home.searchButton(), "Search button was not clicked / not visible");
+        // Same search in every class: the first one drives the form, the others restore its snapshot
+        String searchKey = "findLocation|" + location + "|" + sizeDescription + "|" + numberOfMonths;
+        searchState = SharedSearches.resultsFor(searchKey, driver, () -> {
+            home.imputLocation(location);
+            home.selectCheckInDate();
+            home.selectCheckOutDate(numberOfMonths);
+            home.selectRoomSize(sizeDescription);
+            assertTrue(home.searchButton(), "Search button was not clicked / not visible");
+            results.waitForResults();
+        });
     }
 
     /**
@@ -73,6 +83,7 @@ public class TrivagoTest_SpaFilter extends BasePage {
 
     /**
      * Verifies a hotel NOT present after applying the filter.
+     * Restores the post-search snapshot and filters again, so it does not depend on the page the other lookup left.
      */
     @Parameters({ "nameHotel2Spa", "nameFilter" })
     @Test(dependsOnMethods = "applyFilters")
@@ -81,12 +92,14 @@ public class TrivagoTest_SpaFilter extends BasePage {
             @Optional("Spa") String nameFilter
     ) {
         System.out.println("\n=== TC: showResultsWithFiltersFromXMLFileFalse ===");
+        searchState.restore(driver);
+        assertTrue(results.applyFilter(nameFilter), "Filter could not be applied: " + nameFilter);
         assertFalse(results.IsNameHotelList(nameHotel2Spa, nameFilter),
                 "Unexpectedly found hotel in filtered list: " + nameHotel2Spa);
     }
 
     /**
-     * Verifies a hotel IS present after applying the filter.
+     * Verifies a hotel IS present after applying the filter (from the restored post-search snapshot too).
      */
     @Parameters({ "nameHotel1Spa", "nameFilter" })
     @Test(dependsOnMethods = "applyFilters")
@@ -95,6 +108,8 @@ public class TrivagoTest_SpaFilter extends BasePage {
             @Optional("Spa") String nameFilter
     ) {
         System.out.println("\n=== TC: showResultsWithFiltersFromXMLFileTrue ===");
+        searchState.restore(driver);
+        assertTrue(results.applyFilter(nameFilter), "Filter could not be applied: " + nameFilter);
         assertTrue(results.IsNameHotelList(nameHotel1Spa, nameFilter),
                 "Expected hotel not found in filtered list: " + nameHotel1Spa);
     }
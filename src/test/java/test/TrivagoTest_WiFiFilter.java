@@ -5,16 +5,23 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.Iterator;
 
 import PageObject.BasePage;
 import PageObject.HomeTrivagoPageObject;
 import PageObject.HotelsResult;
+import PageObject.helpers.SessionSnapshot;
+import PageObject.helpers.SharedSearches;
+import test.data.ScenarioSource;
 
 public class TrivagoTest_WiFiFilter extends BasePage {
 
     private HomeTrivagoPageObject home;
     private HotelsResult results;
 
+    // Result page right after the search (no filter), restored by tests that need a clean list
+    private SessionSnapshot searchState;
+
     /** Open browser once per class and prepare Page Objects */
     @BeforeClass(alwaysRun = true)
     public void beforeClass() throws Exception {
@@ -34,11 +41,16 @@ public class TrivagoTest_WiFiFilter extends BasePage {
             @Optional("1") int numberOfMonths
     ) throws IOException {
         System.out.println("\n=== TC: findLocation ===");
-        home.imputLocation(location);
-        home.selectCheckInDate();
-        home.selectCheckOutDate(numberOfMonths);
-        home.selectRoomSize(sizeDescription);
-        assertTrue(home.searchButton(), "Search button was not clicked / not visible");
+        // Same search in every class: the first one drives the form, the others restore its snapshot
+        String searchKey = "findLocation|" + location + "|" + sizeDescription + "|" + numberOfMonths;
+        searchState = SharedSearches.resultsFor(searchKey, driver, () -> {
+            home.imputLocation(location);
+            home.selectCheckInDate();
+            home.selectCheckOutDate(numberOfMonths);
+            home.selectRoomSize(sizeDescription);
+            assertTrue(home.searchButton(), "Search button was not clicked / not visible");
+            results.waitForResults();
+        });
     }
 
     /**
@@ -48,26 +60,34 @@ public class TrivagoTest_WiFiFilter extends BasePage {
     @Test(dataProvider = "getDataFalse", dependsOnMethods = "findLocation")
     public void showResultsWithFiltersFromDataProviderFalse(String nameHotel, String nameFilter) {
         System.out.println("\n=== TC: showResultsWithFiltersFromDataProviderFalse ===");
+        searchState.restore(driver);     // every row starts from the unfiltered result page
         assertTrue(results.applyFilter(nameFilter), "Filter could not be applied: " + nameFilter);
         assertFalse(results.IsNameHotelList(nameHotel, nameFilter),
                 "Unexpectedly found hotel in filtered list: " + nameHotel);
     }
 
     /**
-     * Reset the active filter (runs after the negative case).
+     * Reset a filter (runs after the negative case).
+     * Applies its own filter on the restored post-search page first, so it does not depend on
+     * what the DataProvider cases (which may run before or after it) left applied.
      */
     @Test(dependsOnMethods = "showResultsWithFiltersFromDataProviderFalse")
     public void resetFilter() {
         System.out.println("\n=== TC: resetFilter ===");
+        searchState.restore(driver);
+        assertTrue(results.applyFilter("Free WiFi"), "Filter could not be applied: Free WiFi");
         assertTrue(results.cleanFilter(), "Filter could not be reset");
+        assertTrue(results.isFilterApplied(0), "A filter is still applied after the reset");
     }
 
     /**
      * Uses DataProvider (positive assertion): after applying the filter, the hotel SHOULD be present.
+     * Restores the post-search snapshot, so it does not depend on resetFilter to get a clean list.
      */
-    @Test(dataProvider = "getDataTrue", dependsOnMethods = "resetFilter")
+    @Test(dataProvider = "getDataTrue", dependsOnMethods = "findLocation")
     public void showResultsWithFiltersFromDataProviderTrue(String nameHotel, String nameFilter) {
         System.out.println("\n=== TC: showResultsWithFiltersFromDataProviderTrue ===");
+        searchState.restore(driver);
         assertTrue(results.applyFilter(nameFilter), "Filter could not be applied: " + nameFilter);
         assertTrue(results.IsNameHotelList(nameHotel, nameFilter),
                 "Expected hotel not found in filtered list: " + nameHotel);
@@ -75,18 +95,16 @@ public class TrivagoTest_WiFiFilter extends BasePage {
 
     /* ---------------- Data Providers ---------------- */
 
+    /* Rows stream from src/test/resources/scenarios; serial, since the rows share this class's session */
+
     @DataProvider
-    public Object[][] getDataFalse() {
-        return new Object[][]{
-                { "Jurys Inn Cork", "Free WiFi" }
-        };
+    public Iterator<Object[]> getDataFalse() {
+        return ScenarioSource.rows("scenarios/wifi-false.csv", "nameHotel", "nameFilter");
     }
 
     @DataProvider
-    public Object[][] getDataTrue() {
-        return new Object[][]{
-                { "Cork International Hotel", "Free WiFi" }
-        };
+    public Iterator<Object[]> getDataTrue() {
+        return ScenarioSource.rows("scenarios/wifi-true.csv", "nameHotel", "nameFilter");
     }
 
     /** Close browser once per class */
@@ -0,0 +1,31 @@
+package test.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * Counts WebDriver and WebElement calls made through an EventFiringDecorator,
+ * i.e. the HTTP round trips a page-object method issues.
+ */
+public class CommandCounter implements WebDriverListener {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Override
+    public void beforeAnyWebDriverCall(WebDriver driver, Method method, Object[] args) {
+        calls.incrementAndGet();
+    }
+
+    @Override
+    public void beforeAnyWebElementCall(WebElement element, Method method, Object[] args) {
+        calls.incrementAndGet();
+    }
+
+    public int reset() {
+        return calls.getAndSet(0);
+    }
+}
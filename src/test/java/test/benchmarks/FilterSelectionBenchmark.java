@@ -0,0 +1,89 @@
+package test.benchmarks;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import PageObject.HotelsResult;
+import PageObject.helpers.Config;
+import PageObject.helpers.DriverFactory;
+import test.fixtures.FixturePages;
+
+/**
+ * Several filters in one selector session versus one session per filter, on the 50-card filter fixture:
+ * applyFilters() must re-render the list once and show "(2) Filter", cleanFilter() must bring the count back to 0.
+ * Not part of testngTrivago.xml; run with: mvn test -Dtest=FilterSelectionBenchmark
+ */
+public class FilterSelectionBenchmark {
+
+    private static final int CARDS = 50;
+
+    private WebDriver rawDriver;
+    private WebDriver driver;
+    private final CommandCounter counter = new CommandCounter();
+    private HotelsResult results;
+
+    @BeforeClass(alwaysRun = true)
+    public void beforeClass() throws Exception {
+        rawDriver = DriverFactory.create(Config.load());
+        driver = new EventFiringDecorator<>(counter).decorate(rawDriver);
+        driver.get(FixturePages.writeTemp(FixturePages.filterResults(CARDS)));
+        results = new HotelsResult(driver);
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void resetPage() {
+        script("resetFilter(); window.renders = 0;");
+        results.invalidate();
+        counter.reset();
+    }
+
+    @Test
+    public void filtersAppliedInOneSession() {
+        long start = System.nanoTime();
+        assertTrue(results.applyFilters("Spa", "Free WiFi"), "Both filters should be applied");
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("applyFilters(Spa, Free WiFi): %d ms, %d commands, renders=%s%n",
+                millis, counter.reset(), script("return window.renders;"));
+
+        assertEquals(((Number) script("return window.renders;")).intValue(), 1, "One selector session should re-render once");
+        assertEquals(results.appliedFilterCount(), 2, "Toolbar should show \"(2) Filter\"");
+        assertTrue(results.isFilterApplied(2));
+
+        assertTrue(results.cleanFilter(), "Filter could not be reset");
+        assertEquals(results.appliedFilterCount(), 0, "Reset should clear the filter badge");
+    }
+
+    @Test
+    public void filtersAppliedOneByOne() {
+        long start = System.nanoTime();
+        assertTrue(results.applyFilter("Spa") && results.applyFilter("Free WiFi"), "Both filters should be applied");
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("applyFilter(Spa) + applyFilter(Free WiFi): %d ms, %d commands, renders=%s%n",
+                millis, counter.reset(), script("return window.renders;"));
+
+        assertEquals(((Number) script("return window.renders;")).intValue(), 2, "Two selector sessions re-render twice");
+        assertEquals(results.appliedFilterCount(), 2, "Toolbar should show \"(2) Filter\"");
+
+        assertTrue(results.cleanFilter(), "Filter could not be reset");
+        assertEquals(results.appliedFilterCount(), 0, "Reset should clear the filter badge");
+    }
+
+    private Object script(String js) {
+        return ((JavascriptExecutor) driver).executeScript(js);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanUp() {
+        if (rawDriver != null) {
+            DriverFactory.quit(rawDriver);
+        }
+    }
+}
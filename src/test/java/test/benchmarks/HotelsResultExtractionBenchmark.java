@@ -0,0 +1,132 @@
+package test.benchmarks;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import PageObject.HotelCard;
+import PageObject.HotelsResult;
+import PageObject.helpers.Config;
+import PageObject.helpers.DriverFactory;
+import PageObject.helpers.ResultExtractor;
+import test.fixtures.FixturePages;
+
+/**
+ * Compares single-script extraction against the card-by-card walk on a 50-card results page,
+ * checks that many name lookups against one unchanged list cost a single extraction,
+ * and that a lookup walks only the result pages it needs.
+ * Not part of testngTrivago.xml; run with: mvn test -Dtest=HotelsResultExtractionBenchmark
+ */
+public class HotelsResultExtractionBenchmark {
+
+    private static final int CARDS = 50;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    private WebDriver rawDriver;
+    private WebDriver driver;
+    private final CommandCounter counter = new CommandCounter();
+    private ResultExtractor extractor;
+
+    @BeforeClass(alwaysRun = true)
+    public void beforeClass() throws Exception {
+        rawDriver = DriverFactory.create(Config.load());
+        driver = new EventFiringDecorator<>(counter).decorate(rawDriver);
+        driver.get(FixturePages.writeTemp(FixturePages.results(CARDS)));
+        extractor = new ResultExtractor(driver, ".item__details", "h3",
+                "[data-qa='recommended-price'], .item__best-price", "[data-qa='rating-score'], .item__rating");
+    }
+
+    @Test
+    public void batchExtractionVersusWalk() {
+        WebElement container = driver.findElement(By.xpath("//*[@id='main_content']/div[4]"));
+
+        Result batch = measure("executeScript", () -> extractor.extract(container));
+        Result walk = measure("WebElement walk", () -> extractor.walk(container));
+
+        System.out.println(batch);
+        System.out.println(walk);
+
+        assertEquals(batch.cards, CARDS);
+        assertEquals(walk.cards, CARDS);
+        assertEquals(batch.roundTrips, 1, "Batch extraction should be a single round trip");
+        assertTrue(walk.roundTrips > 2 * CARDS, "Walk should cost more than 2 round trips per card");
+    }
+
+    @Test
+    public void lookupsReuseOneSnapshot() {
+        HotelsResult results = new HotelsResult(driver);
+        counter.reset();
+        long start = System.nanoTime();
+        for (int i = 1; i <= CARDS; i++) {
+            assertTrue(results.IsNameHotelList("Hotel " + i, "none"), "Hotel " + i + " should be listed");
+        }
+        long avgMicros = (System.nanoTime() - start) / CARDS / 1_000;
+        System.out.printf("%d lookups: extractions=%d roundTrips=%d avg=%.2f ms/lookup%n",
+                CARDS, results.extractions(), counter.reset(), avgMicros / 1000.0);
+        assertEquals(results.extractions(), 1, "Unchanged list should be extracted once");
+
+        // A real change inside the container invalidates the snapshot
+        ((JavascriptExecutor) driver).executeScript(
+                "var c = document.querySelector('.item__details'); c.parentNode.appendChild(c.cloneNode(true));");
+        results.IsNameHotelList("Hotel 1", "none");
+        assertEquals(results.extractions(), 2, "Changed list should be extracted again");
+    }
+
+    @Test
+    public void laterPagesAreWalkedLazily() throws Exception {
+        driver.get(FixturePages.writeTemp(FixturePages.pagedResults(10, 20, 150)));
+        HotelsResult results = new HotelsResult(driver);
+
+        long start = System.nanoTime();
+        assertTrue(results.IsNameHotelList("Fixture Hotel 55", "none"), "Hotel on page 3 should be found");
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("Found a page-3 hotel in %d ms, pages loaded=%d of 10%n", millis, results.resultPagesLoaded());
+        // find() does not prefetch: the walk stops on page 3, which stays on screen
+        assertEquals(results.resultPagesLoaded(), 3, "Lookup should stop on the page holding the hotel");
+
+        try (var cards = results.allResultCards()) {
+            assertEquals(cards.count(), 200L, "Every page should be streamed once");
+        }
+        driver.get(FixturePages.writeTemp(FixturePages.results(CARDS)));
+    }
+
+    private Result measure(String label, Supplier<List<HotelCard>> extraction) {
+        for (int i = 0; i < WARMUP; i++) {
+            extraction.get();
+        }
+        counter.reset();
+        int cards = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            cards = extraction.get().size();
+        }
+        long avgMicros = (System.nanoTime() - start) / ITERATIONS / 1_000;
+        return new Result(label, cards, counter.reset() / ITERATIONS, avgMicros);
+    }
+
+    private record Result(String label, int cards, int roundTrips, long avgMicros) {
+        @Override
+        public String toString() {
+            return String.format("%-16s cards=%d roundTrips=%d avg=%.1f ms", label, cards, roundTrips, avgMicros / 1000.0);
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanUp() {
+        if (rawDriver != null) {
+            DriverFactory.quit(rawDriver);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package test.benchmarks;
+
+import static org.testng.Assert.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.Test;
+
+import PageObject.helpers.Config;
+import PageObject.helpers.DriverFactory;
+import PageObject.helpers.LaunchProfile;
+
+/**
+ * Time-to-first-navigation (launch + first driver.get of the configured URL) for every launch profile.
+ * Not part of testngTrivago.xml; run with: mvn test -Dtest=LaunchProfileBenchmark [-Dbenchmark.launches=5]
+ */
+public class LaunchProfileBenchmark {
+
+    @Test
+    public void timeToFirstNavigationPerProfile() throws Exception {
+        Properties p = Config.load();
+        int launches = Integer.getInteger("benchmark.launches", 3);
+        String url = p.getProperty("url");
+
+        Map<String, long[]> results = new LinkedHashMap<>();
+        for (String name : LaunchProfile.names(p)) {
+            LaunchProfile profile = LaunchProfile.named(p, name);
+            long[] millis = new long[launches];
+            for (int i = 0; i < launches; i++) {
+                long start = System.nanoTime();
+                WebDriver driver = DriverFactory.create(p, profile);
+                try {
+                    driver.get(url);
+                    millis[i] = (System.nanoTime() - start) / 1_000_000;
+                } finally {
+                    DriverFactory.quit(driver);
+                }
+            }
+            results.put(name, millis);
+        }
+
+        System.out.println("\n=== Time to first navigation (" + url + ", " + launches + " launches) ===");
+        results.forEach((name, millis) -> {
+            long min = Long.MAX_VALUE, max = 0, sum = 0;
+            for (long m : millis) {
+                min = Math.min(min, m);
+                max = Math.max(max, m);
+                sum += m;
+            }
+            System.out.printf("%-10s avg %6d ms | min %6d ms | max %6d ms%n", name, sum / millis.length, min, max);
+        });
+        assertTrue(results.containsKey(LaunchProfile.DEFAULT));
+    }
+}
@@ -0,0 +1,133 @@
+package test.benchmarks;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import PageObject.HotelCard;
+import PageObject.HotelsResult;
+import PageObject.helpers.Config;
+import PageObject.helpers.DriverFactory;
+import PageObject.helpers.SearchApiCapture;
+import test.fixtures.FixturePages;
+import test.fixtures.FixtureServer;
+
+/**
+ * Result list read from the captured /graphql response of a local fixture (cards rendered from a fetch()):
+ * the decoded cards must match the rendered ones, mark() / awaitAfter() must wait for the response of the
+ * next reload, and a page without any API response must fall back to scraping the DOM.
+ * Not part of testngTrivago.xml; run with: mvn test -Dtest=SearchApiCaptureBenchmark
+ */
+public class SearchApiCaptureBenchmark {
+
+    private static final int CARDS = 50;
+    private static final int FILTERED = 10;
+
+    private FixtureServer server;
+    private WebDriver driver;
+    private SearchApiCapture capture;
+    private String apiResultsUrl;
+    private String domResultsUrl;
+
+    @BeforeClass(alwaysRun = true)
+    public void beforeClass() throws Exception {
+        server = FixtureServer.start();
+        server.put("/graphql", FixturePages.searchApi(CARDS));
+        apiResultsUrl = server.put("/api-results", FixturePages.searchApiResults("/graphql"));
+        domResultsUrl = server.put("/dom-results", FixturePages.results(CARDS));
+
+        Properties p = Config.load();
+        p.setProperty("results.api.timeoutSeconds", "3");
+        driver = DriverFactory.create(p);
+        capture = SearchApiCapture.attach(driver, p);
+        assertNotNull(capture, "The fixture browser needs DevTools to capture the search API");
+    }
+
+    @Test
+    public void decodedCardsMatchTheRenderedCards() {
+        HotelsResult results = openApiResults();
+
+        List<HotelCard> fromApi = results.showResultCards();
+        assertEquals(fromApi.size(), CARDS);
+        assertEquals(fromApi, results.domResultCards(), "Decoded API cards should match the rendered cards");
+        assertTrue(results.crossCheckResults().isEmpty(), "Cross-check should find no difference: " + results.crossCheckResults());
+    }
+
+    @Test(dependsOnMethods = "decodedCardsMatchTheRenderedCards")
+    public void awaitAfterWaitsForTheNextResponse() {
+        HotelsResult results = openApiResults();
+        long before = capture.latest().sequence();
+
+        // Nothing requested since the mark: no newer payload
+        assertNull(capture.awaitAfter(capture.mark(), Duration.ofMillis(500)), "No response should arrive without a reload");
+
+        // A filter change on the site: the same endpoint returns a shorter list
+        server.put("/graphql", FixturePages.searchApi(FILTERED));
+        try {
+            long mark = capture.mark();
+            long start = System.nanoTime();
+            script("reload();");
+            SearchApiCapture.Payload payload = capture.awaitAfter(mark, Duration.ofSeconds(10));
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            System.out.printf("Reloaded results arrived %d ms after the mark (%s)%n", millis, capture);
+
+            assertNotNull(payload, "The reload's response should arrive");
+            assertTrue(payload.sequence() > before, "Payload should be newer than the mark");
+            assertEquals(payload.cards().size(), FILTERED);
+            results.invalidate();
+            assertEquals(results.showResultCards().size(), FILTERED, "The snapshot should come from the newest payload");
+        } finally {
+            server.put("/graphql", FixturePages.searchApi(CARDS));
+        }
+    }
+
+    @Test
+    public void scrapesTheDomWhenNoResponseArrives() {
+        driver.get(domResultsUrl);
+        long start = System.nanoTime();
+        HotelsResult results = new HotelsResult(driver).waitForResults();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("No API response: waited %d ms before scraping%n", millis);
+
+        assertNull(capture.latest(), "A page without search API calls has no payload");
+        assertEquals(results.showResultCards().size(), CARDS, "Cards should be scraped from the DOM");
+        assertEquals(results.showResultCards(), results.domResultCards());
+        assertTrue(results.crossCheckResults().isEmpty(), "Nothing to cross-check without a payload");
+    }
+
+    private HotelsResult openApiResults() {
+        driver.get(apiResultsUrl);
+        HotelsResult results = new HotelsResult(driver).waitForResults();
+        // The response is decoded before the fixture has rendered it: wait for the cards too
+        new WebDriverWait(driver, Duration.ofSeconds(10)).until(d -> results.domResultCards().size() == CARDS);
+        assertNotNull(capture.latest(), "The /graphql response should have been captured");
+        return results;
+    }
+
+    private Object script(String js) {
+        return ((JavascriptExecutor) driver).executeScript(js);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanUp() {
+        if (driver != null) {
+            SearchApiCapture.forget(driver);
+            DriverFactory.quit(driver);
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+}
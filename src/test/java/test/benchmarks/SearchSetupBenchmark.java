@@ -0,0 +1,81 @@
+package test.benchmarks;
+
+import static org.testng.Assert.assertTrue;
+
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import PageObject.HomeTrivagoPageObject;
+import PageObject.HotelsResult;
+import PageObject.SearchRequest;
+import PageObject.helpers.Config;
+import PageObject.helpers.DriverFactory;
+
+/**
+ * findLocation-style setup: full home-page form versus the deep-link fast path, same search.
+ * Not part of testngTrivago.xml; run with: mvn test -Dtest=SearchSetupBenchmark
+ */
+public class SearchSetupBenchmark {
+
+    private static final int ITERATIONS = 3;
+
+    private Properties p;
+    private WebDriver rawDriver;
+    private WebDriver driver;
+    private final CommandCounter counter = new CommandCounter();
+
+    @BeforeClass(alwaysRun = true)
+    public void beforeClass() throws Exception {
+        p = Config.load();
+        rawDriver = DriverFactory.create(p);
+        driver = new EventFiringDecorator<>(counter).decorate(rawDriver);
+    }
+
+    @Test
+    public void deepLinkIsFasterThanTheForm() {
+        SearchRequest request = SearchRequest.builder()
+                .location("Cork")
+                .monthsStay(1)
+                .roomType("Double room")
+                .build();
+        String baseUrl = p.getProperty("url");
+
+        long[] ui = measure(() -> {
+            driver.get(baseUrl);
+            return new HomeTrivagoPageObject(driver).search(request);
+        });
+        long[] deepLink = measure(() -> HotelsResult.open(driver, request, baseUrl));
+
+        System.out.printf("%n=== Search setup for %s ===%n", request);
+        System.out.printf("home-page form : avg %6d ms | %3d commands%n", ui[0], ui[1]);
+        System.out.printf("deep link      : avg %6d ms | %3d commands%n", deepLink[0], deepLink[1]);
+        assertTrue(deepLink[0] < ui[0], "Deep link should be faster than the form");
+        assertTrue(deepLink[1] < ui[1], "Deep link should issue fewer WebDriver commands");
+    }
+
+    /**
+     * @return { average ms, commands per run }
+     */
+    private long[] measure(Supplier<HotelsResult> setup) {
+        counter.reset();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            setup.get();
+        }
+        long avgMillis = (System.nanoTime() - start) / ITERATIONS / 1_000_000;
+        return new long[] { avgMillis, counter.reset() / ITERATIONS };
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanUp() {
+        if (rawDriver != null) {
+            DriverFactory.quit(rawDriver);
+        }
+    }
+}
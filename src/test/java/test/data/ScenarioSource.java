@@ -0,0 +1,213 @@
+package test.data;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+/**
+ * Lazy DataProvider rows read from scenario files on the test classpath (src/test/resources/scenarios).
+ * Rows are parsed one at a time as TestNG pulls them. That only holds for serial providers: TestNG 7.10
+ * drains a @DataProvider(parallel = true) iterator up front to hand the rows to its pool, so a parallel
+ * matrix is read completely before the first row runs (parsing is still streamed, the rows are not).
+ *
+ * Supported formats:
+ *  - .csv  : header row names the columns; blank lines and lines starting with '#' are skipped
+ *  - .json : a top-level array of objects, streamed element by element
+ *
+ * Values are passed as Strings in the order of the requested columns.
+ */
+public final class ScenarioSource {
+
+    private ScenarioSource() {
+    }
+
+    /**
+     * Stream the given columns of a scenario file (format picked from the extension).
+     */
+    public static Iterator<Object[]> rows(String resource, String... columns) {
+        if (resource.endsWith(".csv")) {
+            return csv(resource, columns);
+        }
+        if (resource.endsWith(".json")) {
+            return json(resource, columns);
+        }
+        throw new IllegalArgumentException("Unsupported scenario file: " + resource);
+    }
+
+    public static Iterator<Object[]> csv(String resource, String... columns) {
+        BufferedReader reader = open(resource);
+        int[] indexes;
+        try {
+            String header = nextDataLine(reader);
+            if (header == null) {
+                throw new IllegalArgumentException("Empty scenario file: " + resource);
+            }
+            indexes = indexesOf(splitCsv(header), columns, resource);
+        } catch (IOException e) {
+            closeQuietly(reader);
+            throw new UncheckedIOException(e);
+        }
+
+        return new LazyIterator(reader) {
+            @Override
+            Object[] readNext() throws IOException {
+                String line = nextDataLine(reader);
+                if (line == null) {
+                    return null;
+                }
+                List<String> cells = splitCsv(line);
+                Object[] row = new Object[indexes.length];
+                for (int i = 0; i < indexes.length; i++) {
+                    row[i] = indexes[i] < cells.size() ? cells.get(indexes[i]) : "";
+                }
+                return row;
+            }
+        };
+    }
+
+    public static Iterator<Object[]> json(String resource, String... columns) {
+        BufferedReader reader = open(resource);
+        JsonInput input = new Json().newInput(reader);
+        input.beginArray();
+
+        return new LazyIterator(reader) {
+            @Override
+            Object[] readNext() {
+                if (!input.hasNext()) {
+                    input.endArray();
+                    return null;
+                }
+                Map<String, Object> scenario = input.read(Json.MAP_TYPE);
+                Object[] row = new Object[columns.length];
+                for (int i = 0; i < columns.length; i++) {
+                    Object value = scenario.get(columns[i]);
+                    row[i] = value == null ? "" : String.valueOf(value);
+                }
+                return row;
+            }
+        };
+    }
+
+    /* ===========================
+       Internals
+       =========================== */
+
+    /**
+     * Iterator that reads one row ahead and closes the file once exhausted.
+     */
+    private abstract static class LazyIterator implements Iterator<Object[]> {
+        private final BufferedReader reader;
+        private Object[] next;
+        private boolean done;
+
+        LazyIterator(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        abstract Object[] readNext() throws IOException;
+
+        @Override
+        public synchronized boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    next = readNext();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (next == null) {
+                    done = true;
+                    closeQuietly(reader);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] row = next;
+            next = null;
+            return row;
+        }
+    }
+
+    private static BufferedReader open(String resource) {
+        InputStream in = ScenarioSource.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalArgumentException("Scenario file not found on the test classpath: " + resource);
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    private static String nextDataLine(BufferedReader reader) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank() && !line.startsWith("#")) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    private static int[] indexesOf(List<String> header, String[] columns, String resource) {
+        int[] indexes = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            indexes[i] = header.indexOf(columns[i]);
+            if (indexes[i] < 0) {
+                throw new IllegalArgumentException("Column '" + columns[i] + "' not in " + resource + " header " + header);
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Split one CSV line; double quotes protect commas, "" is an escaped quote.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString().trim());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString().trim());
+        return cells;
+    }
+
+    private static void closeQuietly(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package test.fixtures;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Static HTML pages with the same DOM shape as the trivago locators used by the page objects,
+ * so benchmarks can run against a local file instead of the live site.
+ */
+public final class FixturePages {
+
+    private FixturePages() {
+    }
+
+    /**
+     * Results page: //*[@id='main_content']/div[4] holding the given number of .item__details cards.
+     */
+    public static String results(int cards) {
+        StringBuilder html = new StringBuilder()
+                .append("<!DOCTYPE html><html><head><meta charset='utf-8'><title>Results fixture</title></head><body>")
+                .append("<div id='main_content'><div></div><div></div><div></div><div><ol>");
+        for (int i = 1; i <= cards; i++) {
+            html.append("<li><article><div class='item__details'>")
+                .append("<h3>Fixture Hotel ").append(i).append("</h3>")
+                .append("<span data-qa='recommended-price'>€").append(50 + i).append("</span>")
+                .append("<span data-qa='rating-score'>").append(6 + (i % 40) / 10.0).append("</span>")
+                .append("</div></article></li>");
+        }
+        return html.append("</ol></div></div></body></html>").toString();
+    }
+
+    /**
+     * Paged results: the same container shows one page of cards at a time and a
+     * [data-testid='next-result-page'] button swaps in the next page after a short, XHR-like delay.
+     */
+    public static String pagedResults(int pages, int cardsPerPage, int delayMillis) {
+        return results(0).replace("</body>",
+                "<button data-testid='next-result-page' onclick='nextPage()'>Next</button>"
+              + "<script>"
+              + "var page = 0, pages = " + pages + ", perPage = " + cardsPerPage + ";"
+              + "function render() {"
+              + "  var ol = document.querySelector('#main_content > div:nth-child(4) > ol'), html = '';"
+              + "  for (var i = 1; i <= perPage; i++) {"
+              + "    var n = page * perPage + i;"
+              + "    html += \"<li><article><div class='item__details'><h3>Fixture Hotel \" + n + \"</h3>\""
+              + "          + \"<span data-qa='recommended-price'>€\" + (50 + n) + \"</span></div></article></li>\";"
+              + "  }"
+              + "  ol.innerHTML = html;"
+              + "  document.querySelector(\"[data-testid='next-result-page']\").disabled = page >= pages - 1;"
+              + "}"
+              + "function nextPage() { page++; setTimeout(render, " + delayMillis + "); }"
+              + "render();"
+              + "</script></body>");
+    }
+
+    /**
+     * Search API response for searchApiResults(): {"data": {"accommodations": [{name, price, rating}...]}},
+     * the shape the default "results.api.*" paths read.
+     */
+    public static String searchApi(int cards) {
+        StringBuilder json = new StringBuilder("{\"data\":{\"accommodations\":[");
+        for (int i = 1; i <= cards; i++) {
+            json.append(i > 1 ? "," : "")
+                .append("{\"name\":\"Fixture Hotel ").append(i).append("\",")
+                .append("\"price\":\"€").append(50 + i).append("\",")
+                .append("\"rating\":").append(6 + (i % 40) / 10.0).append('}');
+        }
+        return json.append("]}}").toString();
+    }
+
+    /**
+     * Results page that renders its cards from a fetch() of the given API path (e.g. "/graphql");
+     * reload() fetches and renders again, the way a filter change does on the site.
+     */
+    public static String searchApiResults(String apiPath) {
+        return results(0).replace("</body>",
+                "<script>"
+              + "function reload() {"
+              + "  return fetch('" + apiPath + "', { method: 'POST', body: '{}' }).then(function (r) { return r.json(); }).then(function (json) {"
+              + "    var html = '';"
+              + "    json.data.accommodations.forEach(function (h) {"
+              + "      html += \"<li><article><div class='item__details'><h3>\" + h.name + \"</h3>\""
+              + "            + \"<span data-qa='recommended-price'>\" + h.price + \"</span>\""
+              + "            + \"<span data-qa='rating-score'>\" + h.rating + \"</span></div></article></li>\";"
+              + "    });"
+              + "    document.querySelector('#main_content > div:nth-child(4) > ol').innerHTML = html;"
+              + "  });"
+              + "}"
+              + "reload();"
+              + "</script></body>");
+    }
+
+    /**
+     * Home page: the search form under #js-fullscreen-hero with the location input, its suggestion dropdown,
+     * a two-month ".cal-month" calendar starting at the current month (".cal-btn-next" re-renders it,
+     * resetCalendar() brings it back), the room-type menu and the Search button.
+     */
+    public static String home() {
+        return "<!DOCTYPE html><html><head><meta charset='utf-8'><title>Home fixture</title></head><body>"
+             + "<div id='js-fullscreen-hero'><div><div></div><div><form>"
+             + "<div><div>"
+             + "<div><div><input id='horus-querytext' class='btn-horus__value'></div>"
+             + "<div><div><div><ul>"
+             + "<li><span>Cork</span><span>City - Ireland</span></li>"
+             + "<li><span>Cork Airport</span><span>Airport - Ireland</span></li>"
+             + "<li><span>Corfu</span><span>Island - Greece</span></li>"
+             + "</ul></div></div></div></div>"
+             + "<div><button type='button' class='cal-btn-next'>&rsaquo;</button><div id='calendar'></div></div>"
+             + "<div><button type='button'><span>Search</span><span><span>Search</span></span></button></div>"
+             + "</div></div>"
+             + "<div><span class='roomtype-btn__label'>Room</span><ul>"
+             + "<li>Single room</li><li>Double room</li><li>Family room</li></ul></div>"
+             + "</form></div></div></div>"
+             + "<script>"
+             + "var names = ['January','February','March','April','May','June','July','August','September','October','November','December'];"
+             + "var shift = 0;"
+             + "function month(offset) {"
+             + "  var now = new Date(), d = new Date(now.getFullYear(), now.getMonth() + offset, 1);"
+             + "  var days = new Date(d.getFullYear(), d.getMonth() + 1, 0).getDate(), html = '<table class=\"cal-month\"><caption>' + names[d.getMonth()] + ' ' + d.getFullYear() + '</caption><tr>';"
+             + "  for (var i = 1; i <= days; i++) {"
+             + "    var iso = d.getFullYear() + '-' + String(d.getMonth() + 1).padStart(2, '0') + '-' + String(i).padStart(2, '0');"
+             + "    html += '<td><time datetime=\"' + iso + '\">' + i + '</time></td>' + (i % 7 === 0 ? '</tr><tr>' : '');"
+             + "  }"
+             + "  return html + '</tr></table>';"
+             + "}"
+             + "function renderCalendar() { document.getElementById('calendar').innerHTML = month(shift) + month(shift + 1); }"
+             + "function resetCalendar() { shift = 0; renderCalendar(); }"
+             + "document.querySelector('.cal-btn-next').onclick = function () { shift++; renderCalendar(); };"
+             + "renderCalendar();"
+             + "</script></body></html>";
+    }
+
+    /**
+     * Results page with the filter UI: the ".filter-toolbar" ("Select" / "(N) Filter"), the "#undefined-input"
+     * search box, the suggestion list and Reset button under #page_wrapper, and the hero button used to
+     * close the selector. Suggestions toggle on click; closing the selector re-renders the list once
+     * (counted in window.renders) keeping every (N+1)-th card for N filters; Reset brings the full list back.
+     */
+    public static String filterResults(int cards) {
+        String results = results(cards);
+        String filterUi = "<div id='page_wrapper'><section><div><div><ul><li></li><li></li><li></li><li></li>"
+                + "<li><div><div><section><div>"
+                + "<div><div><div><div></div><div><div><ul><li>Spa</li><li>Free WiFi</li><li>Pool</li></ul></div></div></div></div></div>"
+                + "<footer><button type='button' onclick='resetFilter()'>Reset</button><button type='button'>Done</button></footer>"
+                + "</div></section></div></div></li>"
+                + "</ul></div></div></section></div>"
+                + "<div class='filter-toolbar'><span>Select</span></div>"
+                + "<input id='undefined-input'>"
+                + "<div id='js-fullscreen-hero'><div><div></div><div><form><div><div><div></div><div></div>"
+                + "<div><button type='button'><span>x</span><span><span onclick='closeSelector()'>Close</span></span></button></div>"
+                + "</div></div></form></div></div></div>";
+        String script = "<script>"
+                + "var all = document.querySelector('#main_content > div:nth-child(4) > ol').innerHTML, selected = {};"
+                + "window.renders = 0;"
+                + "document.querySelectorAll('#page_wrapper ul ul li').forEach(function (li) {"
+                + "  li.onclick = function () { selected[li.innerText] = !selected[li.innerText]; };"
+                + "});"
+                + "function toolbar(label) {"
+                + "  var bar = document.querySelector('.filter-toolbar');"
+                + "  bar.innerHTML = '<span>Select</span>' + (label ? '<span>' + label + '</span>' : '');"
+                + "  if (label) bar.lastChild.onclick = function () {};"
+                + "}"
+                + "function render() {"
+                + "  var ol = document.querySelector('#main_content > div:nth-child(4) > ol');"
+                + "  var n = Object.keys(selected).filter(function (k) { return selected[k]; }).length;"
+                + "  ol.innerHTML = all;"
+                + "  window.renders++;"
+                + "  if (n) {"
+                + "    Array.prototype.slice.call(ol.children).forEach(function (li, i) { if (i % (n + 1)) ol.removeChild(li); });"
+                + "  }"
+                + "  toolbar(n ? '(' + n + ') Filter' : null);"
+                + "}"
+                + "function closeSelector() { render(); }"
+                + "function resetFilter() { selected = {}; render(); }"
+                + "</script>";
+        return results.replace("<body>", "<body>" + filterUi).replace("</body>", script + "</body>");
+    }
+
+    /**
+     * Write a page to a temporary file and return its file:// URL.
+     */
+    public static String writeTemp(String html) throws IOException {
+        Path file = Files.createTempFile("trivago-fixture-", ".html");
+        Files.write(file, html.getBytes(StandardCharsets.UTF_8));
+        file.toFile().deleteOnExit();
+        return file.toUri().toString();
+    }
+}
@@ -0,0 +1,67 @@
+package test.fixtures;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves FixturePages over HTTP on localhost, so benchmarks load them like a real site
+ * (same origin rules, network stack and caching as http://) instead of from file:// URLs.
+ */
+public final class FixtureServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Map<String, byte[]> pages = new ConcurrentHashMap<>();
+
+    private FixtureServer(HttpServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Start on a free port of the loopback interface.
+     */
+    public static FixtureServer start() throws IOException {
+        HttpServer http = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        FixtureServer fixtures = new FixtureServer(http);
+        http.createContext("/", exchange -> {
+            byte[] body = fixtures.pages.get(exchange.getRequestURI().getPath());
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            boolean json = body.length > 0 && (body[0] == '{' || body[0] == '[');
+            exchange.getResponseHeaders().set("Content-Type", (json ? "application/json" : "text/html") + "; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-store");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        http.start();
+        return fixtures;
+    }
+
+    /**
+     * Publish a page under the given path (e.g. "/results") and return its full URL.
+     */
+    public String put(String path, String html) {
+        pages.put(path, html.getBytes(StandardCharsets.UTF_8));
+        return url(path);
+    }
+
+    public String url(String path) {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + path;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
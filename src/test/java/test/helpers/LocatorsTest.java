@@ -0,0 +1,83 @@
+package test.helpers;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import PageObject.helpers.Locators;
+
+/**
+ * XPath to CSS compilation (Locators.toCss): every supported step form, and the XPaths that must keep
+ * the XPath engine because CSS cannot express them. No browser needed.
+ * Not part of testngTrivago.xml; run with: mvn test -Dtest=LocatorsTest
+ */
+public class LocatorsTest {
+
+    @DataProvider
+    public Object[][] compiled() {
+        return new Object[][] {
+                // Positions: *[n] counts every element child, tag[n] only siblings of that tag
+                {"//*[3]", "*:nth-child(3)"},
+                {"//div[2]", "div:nth-of-type(2)"},
+                {"//div[@id='x']/*[2]", "div#x > *:nth-child(2)"},
+                // Ids: #id when the value is a CSS identifier, an attribute selector otherwise
+                {"//*[@id='main_content']", "#main_content"},
+                {"//*[@id='main_content']/div[4]", "#main_content > div:nth-of-type(4)"},
+                {"//*[@id='1abc']", "[id='1abc']"},
+                {"//*[@id='a.b']", "[id='a.b']"},
+                // Attribute predicates
+                {"//span[@class='x']", "span[class='x']"},
+                {"//input[@disabled]", "input[disabled]"},
+                {"//div[contains(@class,'item')]", "div[class*='item']"},
+                {"//a[starts-with(@href, \"/hotel\")]", "a[href^='/hotel']"},
+                // Child and descendant steps; a leading single slash is anchored at the document root
+                {"//ul/li[5]//span[@class='x']", "ul > li:nth-of-type(5) span[class='x']"},
+                {"/html/body/div[2]", "html:root > body > div:nth-of-type(2)"},
+                {"//*", "*"},
+                // Quotes and backslashes inside values are escaped for the CSS string
+                {"//span[@title=\"it's\"]", "span[title='it\\'s']"},
+                {"//span[@title='a\\b']", "span[title='a\\\\b']"},
+                // The page-object locator that motivated the compiler
+                {"//*[@id='js-fullscreen-hero']/div/div[2]/form/div/div/div[3]/button/span[2]/span",
+                        "#js-fullscreen-hero > div > div:nth-of-type(2) > form > div > div > div:nth-of-type(3)"
+                                + " > button > span:nth-of-type(2) > span"},
+        };
+    }
+
+    @Test(dataProvider = "compiled")
+    public void compilesToCss(String xpath, String css) {
+        assertEquals(Locators.toCss(xpath), css, xpath);
+        assertEquals(Locators.xpath(xpath), By.cssSelector(css));
+    }
+
+    @DataProvider
+    public Object[][] keptAsXpath() {
+        return new Object[][] {
+                {"//div[@class='x'][2]"},              // position after a filter counts matches, not siblings
+                {"//div[text()='Spa']"},                // text()
+                {"//li[last()]"},                       // other functions
+                {"//div | //span"},                     // unions
+                {"div/span"},                           // relative to a context node
+                {"//div/following-sibling::span"},      // axes
+                {"//div/.."},                           // parent step
+                {"//div[@class='x'"},                   // unbalanced bracket
+                {"/"},                                  // no step at all
+        };
+    }
+
+    @Test(dataProvider = "keptAsXpath")
+    public void fallsBackToXpath(String xpath) {
+        assertNull(Locators.toCss(xpath), xpath);
+        assertEquals(Locators.xpath(xpath), By.xpath(xpath));
+    }
+
+    @Test
+    public void compileKeepsNonXpathLocators() {
+        By css = By.cssSelector(".item__details");
+        assertEquals(Locators.compile(css), css);
+        assertEquals(Locators.compile(By.xpath("//div[2]")), By.cssSelector("div:nth-of-type(2)"));
+    }
+}
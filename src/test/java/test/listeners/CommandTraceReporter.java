@@ -0,0 +1,177 @@
+package test.listeners;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.openqa.selenium.json.Json;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import PageObject.helpers.CommandTrace;
+import PageObject.helpers.Config;
+
+/**
+ * Tells CommandTrace which test is running on each thread, and at the end of the suite writes:
+ *  - target/command-trace/command-trace.json  (per test + page-object step: commands, time, commands by type)
+ *  - target/command-trace/command-trace.folded (folded stacks in microseconds, for flamegraph.pl / speedscope)
+ *  - target/command-trace/regressions.json     (steps slower / chattier than the baseline in "trace.baseline")
+ *
+ * Run with -Dtrace.updateBaseline=true to store the current run as the new baseline; without a baseline
+ * file the suite ends with an error (after writing the trace) rather than skipping the regression check.
+ * Tracing is off by default: mvn test -Ptrace.
+ */
+public class CommandTraceReporter implements IInvokedMethodListener, ISuiteListener {
+
+    private static final Path OUTPUT_DIR = Paths.get("target", "command-trace");
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        String name = testResult.getTestClass().getRealClass().getSimpleName() + "." + method.getTestMethod().getMethodName();
+        Object[] parameters = testResult.getParameters();
+        if (method.isTestMethod() && parameters != null && parameters.length > 0) {
+            name += Arrays.toString(parameters);
+        }
+        CommandTrace.setCurrentTest(name);
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        CommandTrace.clearCurrentTest();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        List<Map<String, Object>> rows = CommandTrace.snapshot();
+        if (rows.isEmpty()) {
+            return;
+        }
+        Properties p;
+        try {
+            p = Config.load();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Json json = new Json();
+        Path baseline = Paths.get(p.getProperty("trace.baseline", "src/test/resources/command-trace-baseline.json"));
+        try {
+            Files.createDirectories(OUTPUT_DIR);
+            Files.writeString(OUTPUT_DIR.resolve("command-trace.json"), json.toJson(rows), StandardCharsets.UTF_8);
+            try (Writer out = Files.newBufferedWriter(OUTPUT_DIR.resolve("command-trace.folded"), StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Long> stack : CommandTrace.folded().entrySet()) {
+                    out.write(stack.getKey() + " " + stack.getValue() + "\n");
+                }
+            }
+
+            Map<String, Map<String, Object>> current = byKey(rows);
+            boolean updateBaseline = Config.getBoolean(p, "trace.updateBaseline", false);
+            if (Files.exists(baseline)) {
+                List<Map<String, Object>> regressions = compare(
+                        byKey(json.toType(Files.readString(baseline), Json.LIST_OF_MAPS_TYPE)), current, p);
+                Files.writeString(OUTPUT_DIR.resolve("regressions.json"), json.toJson(regressions), StandardCharsets.UTF_8);
+                printRegressions(regressions, baseline);
+            } else if (!updateBaseline) {
+                // No baseline means no regression check at all: say so instead of passing silently
+                throw new IllegalStateException("Command trace baseline not found: " + baseline.toAbsolutePath()
+                        + ". Record one with -Dtrace.updateBaseline=true (trace written to " + OUTPUT_DIR.toAbsolutePath() + ")");
+            }
+            if (updateBaseline) {
+                if (baseline.getParent() != null) {
+                    Files.createDirectories(baseline.getParent());
+                }
+                Files.writeString(baseline, json.toJson(rows), StandardCharsets.UTF_8);
+                System.out.println("Command trace baseline updated: " + baseline);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        System.out.println("\n=== WebDriver commands per step (slowest first) ===");
+        for (Map<String, Object> row : rows.subList(0, Math.min(10, rows.size()))) {
+            System.out.printf("%7d ms | %4d commands | %s @ %s%n",
+                    row.get("totalMillis"), row.get("commands"), row.get("step"), row.get("test"));
+        }
+        System.out.println("Command trace written to " + OUTPUT_DIR.toAbsolutePath());
+    }
+
+    /* ===========================
+       Baseline comparison
+       =========================== */
+
+    /**
+     * A step regresses when it issues more commands than allowed by "trace.regression.commandsPct",
+     * or takes longer than allowed by "trace.regression.timePct" and by at least "trace.regression.minMillis".
+     */
+    static List<Map<String, Object>> compare(Map<String, Map<String, Object>> baseline,
+                                             Map<String, Map<String, Object>> current, Properties p) {
+        int commandsPct = Config.getInt(p, "trace.regression.commandsPct", 10);
+        int timePct = Config.getInt(p, "trace.regression.timePct", 50);
+        int minMillis = Config.getInt(p, "trace.regression.minMillis", 200);
+
+        List<Map<String, Object>> regressions = new ArrayList<>();
+        current.forEach((key, now) -> {
+            Map<String, Object> before = baseline.get(key);
+            if (before == null) {
+                return;
+            }
+            long commandsBefore = number(before, "commands");
+            long commandsNow = number(now, "commands");
+            long millisBefore = number(before, "totalMillis");
+            long millisNow = number(now, "totalMillis");
+
+            boolean chattier = commandsNow * 100 > commandsBefore * (100L + commandsPct);
+            boolean slower = millisNow - millisBefore >= minMillis && millisNow * 100 > millisBefore * (100L + timePct);
+            if (chattier || slower) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("test", now.get("test"));
+                row.put("step", now.get("step"));
+                row.put("commandsBaseline", commandsBefore);
+                row.put("commands", commandsNow);
+                row.put("millisBaseline", millisBefore);
+                row.put("millis", millisNow);
+                row.put("reason", chattier && slower ? "commands+time" : chattier ? "commands" : "time");
+                regressions.add(row);
+            }
+        });
+        return regressions;
+    }
+
+    private static void printRegressions(List<Map<String, Object>> regressions, Path baseline) {
+        if (regressions.isEmpty()) {
+            System.out.println("Command trace: no regression against " + baseline);
+            return;
+        }
+        System.out.println("\n=== Command trace regressions against " + baseline + " ===");
+        for (Map<String, Object> row : regressions) {
+            System.out.printf("%-13s | commands %d -> %d | %d ms -> %d ms | %s @ %s%n",
+                    row.get("reason"), row.get("commandsBaseline"), row.get("commands"),
+                    row.get("millisBaseline"), row.get("millis"), row.get("step"), row.get("test"));
+        }
+    }
+
+    private static Map<String, Map<String, Object>> byKey(List<Map<String, Object>> rows) {
+        Map<String, Map<String, Object>> keyed = new LinkedHashMap<>();
+        for (Map<String, Object> row : rows) {
+            keyed.put(row.get("test") + " :: " + row.get("step"), row);
+        }
+        return keyed;
+    }
+
+    private static long number(Map<String, Object> row, String key) {
+        Object value = row.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+}
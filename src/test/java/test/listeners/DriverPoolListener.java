@@ -0,0 +1,51 @@
+package test.listeners;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import PageObject.helpers.Config;
+import PageObject.helpers.DriverPool;
+import PageObject.helpers.GridDispatcher;
+
+/**
+ * Pre-launches the warm browser sessions when the suite starts,
+ * and quits them (printing the pool counters) when it ends.
+ * In grid mode it also prints the queue wait / session-creation latency per browser.
+ */
+public class DriverPoolListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        Properties p;
+        try {
+            p = Config.load();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (Config.getBoolean(p, "pool.enabled", false)) {
+            try {
+                DriverPool.shared(p).prewarm();
+            } catch (RuntimeException e) {
+                // Not fatal: classes launch their sessions on demand and report the real error there
+                System.out.println("Driver pool prewarm failed: " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        DriverPool pool = DriverPool.sharedIfCreated();
+        if (pool != null) {
+            System.out.println("Driver pool: " + pool.stats());
+            pool.shutdown();
+        }
+        GridDispatcher grid = GridDispatcher.sharedIfCreated();
+        if (grid != null) {
+            grid.stats().forEach((browser, stats) -> System.out.println("Grid " + browser + ": " + stats));
+        }
+    }
+}
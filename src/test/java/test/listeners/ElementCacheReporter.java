@@ -0,0 +1,44 @@
+package test.listeners;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.json.Json;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import PageObject.helpers.ElementCache;
+
+/**
+ * Dumps the page-object element cache counters at the end of the suite:
+ *  - target/element-cache/element-cache.json (one row per page object + locator)
+ *  - hit rate and stale refreshes per page object on the console
+ */
+public class ElementCacheReporter implements ISuiteListener {
+
+    private static final Path OUTPUT_DIR = Paths.get("target", "element-cache");
+
+    @Override
+    public void onFinish(ISuite suite) {
+        List<Map<String, Object>> rows = ElementCache.snapshot();
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(OUTPUT_DIR);
+            Files.writeString(OUTPUT_DIR.resolve("element-cache.json"), new Json().toJson(rows), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        System.out.println("\n=== Element cache ===");
+        ElementCache.totals().forEach((owner, stats) -> System.out.println(owner + ": " + stats));
+        System.out.println("Element cache stats written to " + OUTPUT_DIR.toAbsolutePath());
+    }
+}
@@ -0,0 +1,110 @@
+package test.listeners;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import PageObject.BasePage;
+import PageObject.helpers.Config;
+import PageObject.helpers.EventLog;
+import PageObject.helpers.FailureArtifacts;
+
+/**
+ * Buffers the page-object EventLog of every test method on its own thread and prints it as one block
+ * when the method ends, so parallel tests do not interleave their output.
+ *
+ * When a test of a BasePage subclass fails, the screenshot, page source, browser console and the buffered
+ * events are captured while its session is still open, and written asynchronously by FailureArtifacts
+ * ("artifacts.enabled", "artifacts.dir"). Tests that open and close a session inside the method call
+ * capture(driver) themselves before releasing it.
+ */
+public class FailureArtifactListener implements IInvokedMethodListener, ISuiteListener {
+
+    private static final String CAPTURED = "failureArtifacts";
+
+    private static Properties config;
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            EventLog.begin(testName(testResult));
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        List<EventLog.Event> events = EventLog.end();
+        if (!events.isEmpty()) {
+            // One print call per test: whole blocks, never lines of two tests mixed
+            System.out.print(EventLog.format(testName(testResult), events));
+        }
+        if (testResult.getStatus() == ITestResult.FAILURE && testResult.getAttribute(CAPTURED) == null
+                && testResult.getInstance() instanceof BasePage page && page.hasDriver()) {
+            capture(testResult, page.getDriver(), events);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        FailureArtifacts artifacts = FailureArtifacts.sharedIfCreated();
+        if (artifacts == null) {
+            return;
+        }
+        boolean done = artifacts.close(60);
+        System.out.println("Failure artifacts: " + artifacts.stats() + (done ? "" : " (writes still pending)")
+                + " -> " + artifacts.dir().toAbsolutePath());
+    }
+
+    /**
+     * Capture the artifacts of the running test now, with the events logged so far
+     * (call it before closing a session the test owns).
+     * Does nothing outside a TestNG test or when "artifacts.enabled" is false.
+     */
+    public static void capture(WebDriver driver) {
+        ITestResult current = Reporter.getCurrentTestResult();
+        if (current != null && current.getAttribute(CAPTURED) == null) {
+            capture(current, driver, EventLog.current());
+        }
+    }
+
+    private static void capture(ITestResult testResult, WebDriver driver, List<EventLog.Event> events) {
+        Properties p = config();
+        if (!Config.getBoolean(p, "artifacts.enabled", true)) {
+            return;
+        }
+        Path target = FailureArtifacts.shared(p).capture(driver, testName(testResult), events);
+        testResult.setAttribute(CAPTURED, target.toString());
+        System.out.println("Failure artifacts for " + testName(testResult) + " -> " + target);
+    }
+
+    private static synchronized Properties config() {
+        if (config == null) {
+            try {
+                config = Config.load();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return config;
+    }
+
+    private static String testName(ITestResult testResult) {
+        String name = testResult.getTestClass().getRealClass().getSimpleName() + "." + testResult.getMethod().getMethodName();
+        Object[] parameters = testResult.getParameters();
+        return parameters != null && parameters.length > 0 ? name + Arrays.toString(parameters) : name;
+    }
+}
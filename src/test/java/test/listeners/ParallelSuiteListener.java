@@ -0,0 +1,49 @@
+package test.listeners;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Properties;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import PageObject.helpers.Config;
+
+/**
+ * Applies the parallel mode, thread count and data-provider thread count from global.properties to every suite
+ * before TestNG builds its runners, so CI can switch with -Dparallel=classes -DthreadCount=4
+ * instead of editing testngTrivago.xml.
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        Properties p;
+        try {
+            p = Config.load();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        String mode = p.getProperty("parallel", "none").trim();
+        int threads = Config.getInt(p, "threadCount", 1);
+        if (threads < 1) {
+            throw new IllegalArgumentException("threadCount must be >= 1, got " + threads);
+        }
+
+        int dataProviderThreads = Config.getInt(p, "dataProviderThreadCount", 1);
+        if (dataProviderThreads < 1) {
+            throw new IllegalArgumentException("dataProviderThreadCount must be >= 1, got " + dataProviderThreads);
+        }
+
+        XmlSuite.ParallelMode parallel = XmlSuite.ParallelMode.getValidParallel(mode);
+        for (XmlSuite suite : suites) {
+            suite.setParallel(parallel);
+            suite.setThreadCount(threads);
+            suite.setDataProviderThreadCount(dataProviderThreads);
+            System.out.println("Suite '" + suite.getName() + "' -> parallel=" + parallel + ", threadCount=" + threads
+                    + ", dataProviderThreadCount=" + dataProviderThreads);
+        }
+    }
+}
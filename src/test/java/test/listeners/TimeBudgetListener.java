@@ -0,0 +1,63 @@
+package test.listeners;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Properties;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import PageObject.helpers.Config;
+import PageObject.helpers.TestBudget;
+import PageObject.helpers.TimeBudget;
+
+/**
+ * Starts a TestBudget for every test method on its own thread, so all SmartWaits of the test share one deadline.
+ * Budget: @TimeBudget on the method, else @TimeBudget on the class, else "budget.defaultSeconds" (0 = no budget).
+ */
+public class TimeBudgetListener implements IInvokedMethodListener {
+
+    private final long defaultSeconds;
+
+    public TimeBudgetListener() {
+        Properties p;
+        try {
+            p = Config.load();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.defaultSeconds = Config.getInt(p, "budget.defaultSeconds", 0);
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        Method javaMethod = method.getTestMethod().getConstructorOrMethod().getMethod();
+        long seconds = secondsFor(javaMethod);
+        if (seconds > 0) {
+            String name = javaMethod.getDeclaringClass().getSimpleName() + "." + javaMethod.getName();
+            TestBudget.start(name, Duration.ofSeconds(seconds));
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            TestBudget.end();
+        }
+    }
+
+    private long secondsFor(Method method) {
+        TimeBudget onMethod = method.getAnnotation(TimeBudget.class);
+        if (onMethod != null) {
+            return onMethod.seconds();
+        }
+        TimeBudget onClass = method.getDeclaringClass().getAnnotation(TimeBudget.class);
+        return onClass != null ? onClass.seconds() : defaultSeconds;
+    }
+}
@@ -0,0 +1,68 @@
+package test.listeners;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.json.Json;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import PageObject.helpers.WaitStats;
+
+/**
+ * Dumps the SmartWaits latency data at the end of the suite:
+ *  - target/wait-stats/wait-stats.json (full rows incl. histograms)
+ *  - target/wait-stats/wait-stats.csv  (one row per locator + caller)
+ *  - the slowest locators on the console
+ */
+public class WaitStatsReporter implements ISuiteListener {
+
+    private static final Path OUTPUT_DIR = Paths.get("target", "wait-stats");
+    private static final int SLOWEST = 10;
+
+    @Override
+    public void onFinish(ISuite suite) {
+        List<Map<String, Object>> rows = WaitStats.snapshot();
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(OUTPUT_DIR);
+            Files.writeString(OUTPUT_DIR.resolve("wait-stats.json"), new Json().toJson(rows), StandardCharsets.UTF_8);
+            writeCsv(rows, OUTPUT_DIR.resolve("wait-stats.csv"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        System.out.println("\n=== Slowest waits (total wall-clock) ===");
+        for (Map<String, Object> row : rows.subList(0, Math.min(SLOWEST, rows.size()))) {
+            System.out.printf("%7d ms total | %4d calls | p95 %5d ms | %2d timeouts | %s @ %s%n",
+                    row.get("totalMillis"), row.get("count"), row.get("p95Millis"), row.get("timeouts"),
+                    row.get("locator"), row.get("caller"));
+        }
+        System.out.println("Wait stats written to " + OUTPUT_DIR.toAbsolutePath());
+    }
+
+    private static void writeCsv(List<Map<String, Object>> rows, Path file) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("locator,caller,count,timeouts,iterations,totalMillis,avgMillis,p50Millis,p95Millis,maxMillis\n");
+            for (Map<String, Object> row : rows) {
+                out.write(csv(row.get("locator")) + "," + csv(row.get("caller")) + ","
+                        + row.get("count") + "," + row.get("timeouts") + "," + row.get("iterations") + ","
+                        + row.get("totalMillis") + "," + row.get("avgMillis") + "," + row.get("p50Millis") + ","
+                        + row.get("p95Millis") + "," + row.get("maxMillis") + "\n");
+            }
+        }
+    }
+
+    private static String csv(Object value) {
+        return "\"" + String.valueOf(value).replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,110 @@
+package test.pipeline;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.openqa.selenium.json.Json;
+
+import PageObject.helpers.Config;
+import PageObject.helpers.DriverPool;
+import PageObject.helpers.EventLog;
+import test.data.ScenarioSource;
+
+/**
+ * Runs a scenario file through the ScenarioPipeline and reports per-slot utilization.
+ *
+ *  - Prints each outcome as it completes (with the page-object events of its browser step),
+ *    then the slot utilization and the number of slots kept busy on average.
+ *  - Writes target/pipeline/pipeline-report.json.
+ *  - Exits with status 1 if any scenario failed.
+ *
+ * Usage: mvn test -Ppipeline [-Dpipeline.slots=2] [-Dpipeline.scenarios=scenarios/filter-matrix.csv]
+ */
+public final class PipelineRunner {
+
+    private static final Path OUTPUT_DIR = Paths.get("target", "pipeline");
+
+    private PipelineRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Properties p = Config.load();
+        String resource = args.length > 0 ? args[0] : "scenarios/filter-matrix.csv";
+        int slots = args.length > 1 ? Integer.parseInt(args[1]) : Config.getInt(p, "threadCount", 2);
+
+        Iterator<Object[]> rows = ScenarioSource.rows(resource, Scenario.COLUMNS);
+        Iterator<Scenario> scenarios = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public Scenario next() {
+                return Scenario.of(rows.next());
+            }
+        };
+
+        ScenarioPipeline.Report report;
+        try (ScenarioPipeline pipeline = new ScenarioPipeline(p, slots)) {
+            System.out.println("Running " + resource + " on " + pipeline.slots() + " browser slot(s)");
+            report = pipeline.run(scenarios, outcome -> {
+                System.out.println(outcome);
+                if (!outcome.events().isEmpty()) {
+                    System.out.print(EventLog.format(outcome.scenario().toString(), outcome.events()));
+                }
+            });
+        } finally {
+            DriverPool pool = DriverPool.sharedIfCreated();
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+
+        System.out.println("\n=== Pipeline ===");
+        report.slots().forEach(System.out::println);
+        System.out.println(report);
+
+        Files.createDirectories(OUTPUT_DIR);
+        Files.writeString(OUTPUT_DIR.resolve("pipeline-report.json"), new Json().toJson(toMap(report)), StandardCharsets.UTF_8);
+        System.exit(report.failures() == 0 ? 0 : 1);
+    }
+
+    private static Map<String, Object> toMap(ScenarioPipeline.Report report) {
+        List<Map<String, Object>> outcomes = new ArrayList<>();
+        for (ScenarioPipeline.Outcome outcome : report.outcomes()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("scenario", outcome.scenario().toString());
+            row.put("passed", outcome.passed());
+            row.put("detail", outcome.detail());
+            row.put("slot", outcome.slot());
+            row.put("browseMillis", outcome.browseMillis());
+            row.put("latencyMillis", outcome.latencyMillis());
+            outcomes.add(row);
+        }
+        List<Map<String, Object>> slots = new ArrayList<>();
+        for (ScenarioPipeline.SlotStats slot : report.slots()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("slot", slot.slot());
+            row.put("scenarios", slot.scenarios());
+            row.put("busyMillis", slot.busyMillis());
+            row.put("utilization", Math.round(slot.utilization() * 1000) / 1000.0);
+            slots.add(row);
+        }
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("wallMillis", report.wallMillis());
+        root.put("failures", report.failures());
+        root.put("busySlots", Math.round(report.busySlots() * 100) / 100.0);
+        root.put("slots", slots);
+        root.put("outcomes", outcomes);
+        return root;
+    }
+}
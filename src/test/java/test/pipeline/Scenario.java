@@ -0,0 +1,32 @@
+package test.pipeline;
+
+import java.util.List;
+
+/**
+ * One row of a filter scenario file (see scenarios/filter-matrix.csv):
+ * search location, hotel to look for, filter(s) to apply ('+' separated), expected presence.
+ */
+public record Scenario(String location, String nameHotel, String nameFilter, boolean expected) {
+
+    /** Columns read from the scenario file, in constructor order. */
+    public static final String[] COLUMNS = { "location", "nameHotel", "nameFilter", "expected" };
+
+    /**
+     * Build a scenario from a ScenarioSource row read with COLUMNS.
+     */
+    public static Scenario of(Object[] row) {
+        return new Scenario((String) row[0], (String) row[1], (String) row[2], Boolean.parseBoolean((String) row[3]));
+    }
+
+    /**
+     * The filters of the row: "Spa+Free WiFi" is two filters applied together.
+     */
+    public List<String> filters() {
+        return List.of(nameFilter.split("\\s*\\+\\s*"));
+    }
+
+    @Override
+    public String toString() {
+        return location + " / " + nameHotel + " / " + nameFilter + " -> " + expected;
+    }
+}
@@ -0,0 +1,330 @@
+package test.pipeline;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.openqa.selenium.WebDriverException;
+
+import PageObject.BasePage;
+import PageObject.HotelCard;
+import PageObject.HotelsResult;
+import PageObject.SearchRequest;
+import PageObject.helpers.EventLog;
+
+/**
+ * Runs filter scenarios as asynchronous pipelines, so browser and non-browser work overlap:
+ *
+ *   prepare (CPU pool)  ->  browse (holds a browser slot)  ->  verify + report (CPU pool)
+ *
+ * - At most "slots" browse stages run at once (a Semaphore over the idle slots); each slot keeps
+ *   one BasePage session for all the scenarios it runs.
+ * - While a slot drives scenario N, scenario N+1 is already prepared and scenario N-1 is being
+ *   verified and reported, so the slot picks up new work as soon as it is free.
+ * - At most 2 x slots scenarios are in flight: the scenario source is read lazily, never all at once.
+ * - The browse stage only does what needs the browser (open, filter, scrape); a session that throws
+ *   a WebDriverException is closed and set up again for the next scenario.
+ *
+ * Slot utilization (share of the wall time a slot spent in browse stages) is in the returned Report.
+ */
+public final class ScenarioPipeline implements AutoCloseable {
+
+    private final String baseUrl;
+    private final int slotCount;
+    private final Semaphore freeSlots;
+    private final BlockingQueue<BrowserSlot> idleSlots;
+    private final List<BrowserSlot> slots = new ArrayList<>();
+    private final Semaphore inFlight;
+    private final ExecutorService cpu;
+    private final ExecutorService browser;
+
+    public ScenarioPipeline(Properties p, int slotCount) {
+        if (slotCount < 1) {
+            throw new IllegalArgumentException("slots must be >= 1: " + slotCount);
+        }
+        this.baseUrl = p.getProperty("url");
+        this.slotCount = slotCount;
+        this.freeSlots = new Semaphore(slotCount, true);
+        this.idleSlots = new ArrayBlockingQueue<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            BrowserSlot slot = new BrowserSlot(i);
+            slots.add(slot);
+            idleSlots.add(slot);
+        }
+        this.inFlight = new Semaphore(2 * slotCount);
+        this.cpu = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors() / 2), threads("pipeline-cpu"));
+        this.browser = Executors.newCachedThreadPool(threads("pipeline-browser"));
+    }
+
+    public int slots() {
+        return slotCount;
+    }
+
+    /**
+     * Run every scenario and wait for all of them.
+     *
+     * @param onOutcome called (on a CPU pool thread, one at a time) as each scenario finishes
+     */
+    public Report run(Iterator<Scenario> scenarios, Consumer<Outcome> onOutcome) throws InterruptedException {
+        long start = System.nanoTime();
+        for (BrowserSlot slot : slots) {
+            slot.busyNanos = 0;
+            slot.scenarios = 0;
+        }
+        List<CompletableFuture<Outcome>> running = new ArrayList<>();
+        while (scenarios.hasNext()) {
+            inFlight.acquire();                        // bounded look-ahead
+            Scenario scenario = scenarios.next();
+            CompletableFuture<Outcome> outcome = CompletableFuture
+                    .supplyAsync(() -> prepare(scenario), cpu)
+                    .thenApplyAsync(this::browse, browser)
+                    .thenApplyAsync(this::verify, cpu)
+                    .exceptionally(e -> Outcome.failed(scenario, unwrap(e)))
+                    .whenComplete((result, e) -> {
+                        try {
+                            synchronized (onOutcome) {
+                                onOutcome.accept(result);
+                            }
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+            running.add(outcome);
+        }
+        CompletableFuture.allOf(running.toArray(new CompletableFuture<?>[0])).join();
+
+        long wall = System.nanoTime() - start;
+        List<Outcome> outcomes = new ArrayList<>();
+        for (CompletableFuture<Outcome> outcome : running) {
+            outcomes.add(outcome.join());
+        }
+        List<SlotStats> slotStats = new ArrayList<>();
+        for (BrowserSlot slot : slots) {
+            slotStats.add(new SlotStats(slot.index, slot.scenarios, TimeUnit.NANOSECONDS.toMillis(slot.busyNanos),
+                    wall == 0 ? 0 : (double) slot.busyNanos / wall));
+        }
+        return new Report(outcomes, slotStats, TimeUnit.NANOSECONDS.toMillis(wall));
+    }
+
+    /**
+     * Close every slot's session and stop the pipeline threads.
+     */
+    @Override
+    public void close() {
+        cpu.shutdown();
+        browser.shutdown();
+        for (BrowserSlot slot : slots) {
+            slot.page.finish();
+        }
+    }
+
+    /* ===========================
+       Stages
+       =========================== */
+
+    private Prepared prepare(Scenario scenario) {
+        SearchRequest request = SearchRequest.builder()
+                .location(scenario.location())
+                .monthsStay(1)
+                .roomType(SearchRequest.RoomType.DOUBLE)
+                .build();
+        return new Prepared(scenario, request, System.nanoTime());
+    }
+
+    private Observed browse(Prepared prepared) {
+        BrowserSlot slot = acquire();
+        long start = System.nanoTime();
+        EventLog.begin(prepared.scenario().toString());
+        try {
+            if (!slot.page.hasDriver()) {
+                slot.page.setup();
+            }
+            HotelsResult results = HotelsResult.open(slot.page.getDriver(), prepared.request(), baseUrl);
+            List<String> filters = prepared.scenario().filters();
+            boolean applied = results.applyFilters(filters) && results.isFilterApplied(filters.size());
+            List<HotelCard> cards = results.showResultCards();
+            // Further result pages only when the first one does not settle the question
+            String hotel = prepared.scenario().nameHotel();
+            boolean onLaterPage = cards.stream().noneMatch(card -> card.name().contains(hotel))
+                    && results.IsNameHotelList(hotel, prepared.scenario().nameFilter());
+            return new Observed(prepared, slot.index, applied, cards, onLaterPage, results.resultPagesLoaded(),
+                    System.nanoTime() - start, EventLog.end());
+        } catch (WebDriverException e) {
+            // Broken or confused session: start the next scenario on this slot from a fresh one
+            slot.page.finish();
+            throw new BrowseFailure(slot.index, System.nanoTime() - start, EventLog.end(), e);
+        } catch (IOException | RuntimeException e) {
+            throw new BrowseFailure(slot.index, System.nanoTime() - start, EventLog.end(), e);
+        } finally {
+            EventLog.end();
+            slot.busyNanos += System.nanoTime() - start;
+            slot.scenarios++;
+            release(slot);
+        }
+    }
+
+    private Outcome verify(Observed observed) {
+        Scenario scenario = observed.prepared().scenario();
+        boolean present = observed.foundOnLaterPage()
+                || observed.cards().stream().anyMatch(card -> card.name().contains(scenario.nameHotel()));
+        boolean passed = observed.filterApplied() && present == scenario.expected();
+        String detail = !observed.filterApplied()
+                ? "filter could not be applied"
+                : String.format("'%s' %s (%d cards on page 1, %d page(s) read)", scenario.nameHotel(),
+                        present ? "listed" : "not listed", observed.cards().size(), observed.pagesLoaded());
+        return new Outcome(scenario, passed, detail, observed.slot(),
+                TimeUnit.NANOSECONDS.toMillis(observed.browseNanos()),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - observed.prepared().preparedAt()),
+                observed.events());
+    }
+
+    private BrowserSlot acquire() {
+        try {
+            freeSlots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        BrowserSlot slot = idleSlots.poll();
+        if (slot == null) {
+            freeSlots.release();
+            throw new IllegalStateException("Browser slot permit without an idle slot");
+        }
+        return slot;
+    }
+
+    private void release(BrowserSlot slot) {
+        idleSlots.add(slot);
+        freeSlots.release();
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    /**
+     * A browse stage that failed after taking a slot: keeps the slot, its browser time and its events for the Outcome.
+     */
+    private static final class BrowseFailure extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final int slot;
+        private final long browseNanos;
+        private final transient List<EventLog.Event> events;
+
+        BrowseFailure(int slot, long browseNanos, List<EventLog.Event> events, Throwable cause) {
+            super(cause);
+            this.slot = slot;
+            this.browseNanos = browseNanos;
+            this.events = events;
+        }
+    }
+
+    private static ThreadFactory threads(String prefix) {
+        AtomicInteger ids = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + ids.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /* ===========================
+       Stage results
+       =========================== */
+
+    private record Prepared(Scenario scenario, SearchRequest request, long preparedAt) {
+    }
+
+    private record Observed(Prepared prepared, int slot, boolean filterApplied, List<HotelCard> cards,
+                            boolean foundOnLaterPage, int pagesLoaded, long browseNanos, List<EventLog.Event> events) {
+    }
+
+    /**
+     * Result of one scenario. A failure inside the browse stage keeps the slot it ran on, its browser time
+     * and its events; slot is -1 when it failed outside the browse stage (before it got a browser, or in verify).
+     */
+    public record Outcome(Scenario scenario, boolean passed, String detail, int slot, long browseMillis,
+                          long latencyMillis, List<EventLog.Event> events) {
+
+        static Outcome failed(Scenario scenario, Throwable error) {
+            if (error instanceof BrowseFailure failure) {
+                Throwable cause = unwrap(failure.getCause());
+                return new Outcome(scenario, false, describe(cause), failure.slot,
+                        TimeUnit.NANOSECONDS.toMillis(failure.browseNanos), 0, failure.events);
+            }
+            return new Outcome(scenario, false, describe(error), -1, 0, 0, List.of());
+        }
+
+        private static String describe(Throwable error) {
+            // First line only: WebDriverException messages carry build and system info
+            String message = String.valueOf(error.getMessage()).lines().findFirst().orElse("");
+            return error.getClass().getSimpleName() + ": " + message;
+        }
+
+        @Override
+        public String toString() {
+            return (passed ? "PASS " : "FAIL ") + scenario + " | " + detail
+                    + (slot >= 0 ? " | slot " + slot + ", browser " + browseMillis + " ms" : "");
+        }
+    }
+
+    /**
+     * Time one browser slot spent driving scenarios; utilization = busy / pipeline wall time.
+     */
+    public record SlotStats(int slot, int scenarios, long busyMillis, double utilization) {
+
+        @Override
+        public String toString() {
+            return String.format("slot %d: %d scenarios, %d ms busy, %.0f%% utilized", slot, scenarios, busyMillis, utilization * 100);
+        }
+    }
+
+    public record Report(List<Outcome> outcomes, List<SlotStats> slots, long wallMillis) {
+
+        public long failures() {
+            return outcomes.stream().filter(o -> !o.passed()).count();
+        }
+
+        /**
+         * Summed browser time over wall time: how many slots were kept busy on average.
+         */
+        public double busySlots() {
+            long busy = slots.stream().mapToLong(SlotStats::busyMillis).sum();
+            return wallMillis == 0 ? 0 : (double) busy / wallMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d scenarios, %d failed, %d ms wall, %.2f of %d slots busy on average",
+                    outcomes.size(), failures(), wallMillis, busySlots(), slots.size());
+        }
+    }
+
+    /**
+     * One browser session slot, used by one browse stage at a time.
+     */
+    private static final class BrowserSlot {
+        private final int index;
+        private final BasePage page = new BasePage();
+        private long busyNanos;
+        private int scenarios;
+
+        BrowserSlot(int index) {
+            this.index = index;
+        }
+    }
+}
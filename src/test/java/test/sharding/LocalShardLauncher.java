@@ -0,0 +1,108 @@
+package test.sharding;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+import PageObject.helpers.Config;
+
+/**
+ * Local sharded mode: launches K JVMs, each running testngTrivago.xml with
+ * -Dshard.count=K -Dshard.index=i, then merges their reports and durations.
+ *
+ *  - Each fork writes its TestNG output to target/shards/shard-i and its console to target/shards/shard-i.log.
+ *  - Any -D override of a global.properties key given to this JVM is forwarded to the forks.
+ *  - Prints per-shard wall time, the slowest shard, and the parallelism actually reached
+ *    (summed shard time / wall time) with its utilization of the K forks. This is not a speedup over a
+ *    single JVM: forks share the machine, so a shard runs slower than the same tests would alone.
+ *
+ * Usage: mvn test -Pshards -Dshard.count=4
+ */
+public final class LocalShardLauncher {
+
+    private LocalShardLauncher() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Properties p = Config.load();
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : Config.getInt(p, "shard.count", 2);
+        String suite = args.length > 1 ? args[1] : "src/main/resources/testngTrivago.xml";
+        Path dir = ShardingListener.OUTPUT_DIR;
+        Files.createDirectories(dir);
+
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        String classpath = System.getProperty("java.class.path");
+
+        List<Process> forks = new ArrayList<>();
+        List<CompletableFuture<Long>> finished = new ArrayList<>();
+        long[] started = new long[count];
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            List<String> command = new ArrayList<>();
+            command.add(java);
+            command.add("-cp");
+            command.add(classpath);
+            for (String key : p.stringPropertyNames()) {
+                if (!key.startsWith("shard.") && System.getProperty(key) != null) {
+                    command.add("-D" + key + "=" + System.getProperty(key));
+                }
+            }
+            command.add("-Dshard.count=" + count);
+            command.add("-Dshard.index=" + i);
+            command.add("org.testng.TestNG");
+            command.add("-d");
+            command.add(dir.resolve("shard-" + i).toString());
+            command.add(suite);
+
+            started[i] = System.nanoTime();
+            Process fork = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(dir.resolve("shard-" + i + ".log").toFile())
+                    .start();
+            forks.add(fork);
+            // Exit time taken when the fork ends, not when the loop below gets to it
+            finished.add(fork.onExit().thenApply(ended -> System.nanoTime()));
+        }
+
+        long busy = 0;
+        long slowest = 0;
+        int failedForks = 0;
+        for (int i = 0; i < count; i++) {
+            int exit = waitFor(forks.get(i));
+            long millis = (finished.get(i).join() - started[i]) / 1_000_000;
+            busy += millis;
+            slowest = Math.max(slowest, millis);
+            if (exit != 0) {
+                failedForks++;
+            }
+            System.out.printf("  shard %d/%d: %6d ms, exit %d (log: %s)%n",
+                    i, count, millis, exit, dir.resolve("shard-" + i + ".log"));
+        }
+        long wall = (System.nanoTime() - start) / 1_000_000;
+        double parallelism = wall == 0 ? 0 : (double) busy / wall;
+        System.out.printf("Sharded run: %d forks, wall %d ms, slowest shard %d ms, summed %d ms, parallelism %.2f, utilization %.0f%%%n",
+                count, wall, slowest, busy, parallelism, 100 * parallelism / count);
+
+        int[] totals = ShardReportMerger.merge(dir);
+        System.out.printf("Merged: total=%d passed=%d failed=%d skipped=%d -> %s%n",
+                totals[0], totals[1], totals[2], totals[3], dir.resolve("testng-results.xml"));
+        if (failedForks > 0 || totals[2] > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static int waitFor(Process process) throws IOException {
+        try {
+            return process.waitFor();
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for shard", e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package test.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Deterministic assignment of scenarios to K shards.
+ *
+ * - Scenario IDs are stable strings (the &lt;test&gt; name, or method + parameters for a row).
+ * - With historical durations, scenarios are placed longest-first on the least loaded shard (LPT),
+ *   ties broken by the stable hash of the ID, so every JVM computes the same plan from the same inputs.
+ * - Scenarios without history get the median known duration (or 1 when nothing is known),
+ *   which degrades to an even, hash-ordered spread.
+ */
+public final class ShardPlan {
+
+    private ShardPlan() {
+    }
+
+    /**
+     * @return scenario ID -> shard index (0-based)
+     */
+    public static Map<String, Integer> assign(Collection<String> ids, Map<String, Long> durations, int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("shard count must be >= 1, got " + shards);
+        }
+        long fallback = median(durations.values());
+
+        List<String> ordered = new ArrayList<>(ids);
+        ordered.sort(Comparator.comparingLong((String id) -> durations.getOrDefault(id, fallback)).reversed()
+                .thenComparingLong(ShardPlan::stableHash)
+                .thenComparing(Comparator.naturalOrder()));
+
+        long[] load = new long[shards];
+        Map<String, Integer> plan = new HashMap<>();
+        for (String id : ordered) {
+            int target = 0;
+            for (int s = 1; s < shards; s++) {
+                if (load[s] < load[target]) {
+                    target = s;
+                }
+            }
+            load[target] += durations.getOrDefault(id, fallback);
+            plan.put(id, target);
+        }
+        return plan;
+    }
+
+    /**
+     * Row-level split for @ShardRows classes: shard = stableHash(id) mod K.
+     */
+    public static boolean owns(String id, int shards, int index) {
+        return stableHash(id) % shards == index;
+    }
+
+    /**
+     * Same value in every JVM and on every machine (CRC32 of the UTF-8 bytes).
+     */
+    public static long stableHash(String id) {
+        CRC32 crc = new CRC32();
+        crc.update(id.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    private static long median(Collection<Long> values) {
+        if (values.isEmpty()) {
+            return 1;
+        }
+        List<Long> sorted = new ArrayList<>(values);
+        sorted.sort(null);
+        return Math.max(1, sorted.get(sorted.size() / 2));
+    }
+}
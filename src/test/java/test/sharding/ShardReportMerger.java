@@ -0,0 +1,150 @@
+package test.sharding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import PageObject.helpers.Config;
+
+/**
+ * Merges the output of a sharded run.
+ *
+ *  - Every shard-N/testng-results.xml under the shards directory is folded into one
+ *    shards/testng-results.xml (counters summed, &lt;suite&gt; elements concatenated).
+ *  - Every durations-shard-N.properties is merged into "shard.durations", so the next run balances on them.
+ *
+ * CI: copy each machine's target/surefire-reports to target/shards/shard-N and its
+ * target/shards/durations-shard-N.properties next to it, then run this class.
+ *
+ * Usage: java -cp ... test.sharding.ShardReportMerger [shardsDir]
+ */
+public final class ShardReportMerger {
+
+    private static final String[] COUNTERS = {"total", "passed", "failed", "skipped", "ignored"};
+
+    private ShardReportMerger() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path dir = args.length > 0 ? Paths.get(args[0]) : ShardingListener.OUTPUT_DIR;
+        int[] totals = merge(dir);
+        System.out.printf("Merged shard reports into %s: total=%d passed=%d failed=%d skipped=%d%n",
+                dir.resolve("testng-results.xml"), totals[0], totals[1], totals[2], totals[3]);
+        if (totals[2] > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return summed counters in COUNTERS order
+     */
+    public static int[] merge(Path dir) throws Exception {
+        int[] totals = mergeResults(dir);
+        mergeDurations(dir);
+        return totals;
+    }
+
+    /* ===========================
+       testng-results.xml
+       =========================== */
+
+    static int[] mergeResults(Path dir) throws Exception {
+        List<Path> reports = new ArrayList<>();
+        try (Stream<Path> shards = Files.list(dir)) {
+            shards.filter(p -> p.getFileName().toString().startsWith("shard-") && Files.isDirectory(p))
+                    .sorted()
+                    .map(p -> p.resolve("testng-results.xml"))
+                    .filter(Files::exists)
+                    .forEach(reports::add);
+        }
+
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        Document merged = factory.newDocumentBuilder().newDocument();
+        Element root = merged.createElement("testng-results");
+        merged.appendChild(root);
+
+        int[] totals = new int[COUNTERS.length];
+        for (Path report : reports) {
+            Document shard = factory.newDocumentBuilder().parse(report.toFile());
+            Element shardRoot = shard.getDocumentElement();
+            for (int i = 0; i < COUNTERS.length; i++) {
+                String value = shardRoot.getAttribute(COUNTERS[i]);
+                totals[i] += value.isEmpty() ? 0 : Integer.parseInt(value);
+            }
+            NodeList children = shardRoot.getChildNodes();
+            for (int i = 0; i < children.getLength(); i++) {
+                Node child = children.item(i);
+                if (child instanceof Element element && "suite".equals(element.getTagName())) {
+                    Element copy = (Element) merged.importNode(element, true);
+                    copy.setAttribute("shard", report.getParent().getFileName().toString());
+                    root.appendChild(copy);
+                }
+            }
+        }
+        for (int i = 0; i < COUNTERS.length; i++) {
+            root.setAttribute(COUNTERS[i], Integer.toString(totals[i]));
+        }
+
+        var transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        try (OutputStream out = Files.newOutputStream(dir.resolve("testng-results.xml"))) {
+            transformer.transform(new DOMSource(merged), new StreamResult(out));
+        }
+        return totals;
+    }
+
+    /* ===========================
+       Durations
+       =========================== */
+
+    static void mergeDurations(Path dir) throws IOException {
+        Path target = Paths.get(Config.load().getProperty("shard.durations",
+                "src/test/resources/shard-durations.properties"));
+        Properties all = new Properties();
+        if (Files.exists(target)) {
+            try (InputStream in = Files.newInputStream(target)) {
+                all.load(in);
+            }
+        }
+        boolean changed = false;
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files.sorted()::iterator) {
+                String name = file.getFileName().toString();
+                if (name.startsWith("durations-shard-") && name.endsWith(".properties")) {
+                    try (InputStream in = Files.newInputStream(file)) {
+                        all.load(in);
+                    }
+                    changed = true;
+                }
+            }
+        }
+        if (!changed) {
+            return;
+        }
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        try (OutputStream out = Files.newOutputStream(target)) {
+            all.store(out, "Latest measured <test> durations (ms), used by ShardPlan to balance shards");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package test.sharding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a data-driven test class whose DataProvider rows are split across shards
+ * (its &lt;test&gt; runs on every shard, each one taking its share of the rows),
+ * instead of the whole &lt;test&gt; being assigned to a single shard.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ShardRows {
+}
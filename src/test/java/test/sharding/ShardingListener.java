@@ -0,0 +1,187 @@
+package test.sharding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.IDataProviderInterceptor;
+import org.testng.IDataProviderMethod;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ISuiteResult;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import PageObject.helpers.Config;
+
+/**
+ * Runs only this JVM's share of the suite when "shard.count" &gt; 1.
+ *
+ *  - Every &lt;test&gt; of testngTrivago.xml is a scenario, assigned with ShardPlan using the durations
+ *    in "shard.durations" (written back by ShardReportMerger after each sharded run).
+ *  - &lt;test&gt;s holding a @ShardRows class run on every shard, and their DataProvider rows are split by hash.
+ *  - At the end of a sharded run, the measured duration of every &lt;test&gt; is written to
+ *    target/shards/durations-shard-N.properties.
+ *
+ * Usage: mvn test -Dshard.count=4 -Dshard.index=0..3 (one per CI machine), or mvn test -Pshards for local forks.
+ */
+public class ShardingListener implements IAlterSuiteListener, IDataProviderInterceptor, ISuiteListener {
+
+    static final Path OUTPUT_DIR = Paths.get("target", "shards");
+
+    private final int count;
+    private final int index;
+    private final Path durationsFile;
+
+    public ShardingListener() {
+        Properties p;
+        try {
+            p = Config.load();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.count = Config.getInt(p, "shard.count", 1);
+        this.index = Config.getInt(p, "shard.index", 0);
+        this.durationsFile = Paths.get(p.getProperty("shard.durations", "src/test/resources/shard-durations.properties"));
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("shard.index must be in [0, " + count + "), got " + index);
+        }
+    }
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (count <= 1) {
+            return;
+        }
+        Map<String, Long> durations = readDurations(durationsFile);
+        for (XmlSuite suite : suites) {
+            List<String> ids = new ArrayList<>();
+            for (XmlTest test : suite.getTests()) {
+                if (!splitsRows(test)) {
+                    ids.add(test.getName());
+                }
+            }
+            Map<String, Integer> plan = ShardPlan.assign(ids, durations, count);
+            suite.getTests().removeIf(test -> !splitsRows(test) && plan.get(test.getName()) != index);
+
+            List<String> kept = new ArrayList<>();
+            suite.getTests().forEach(t -> kept.add(t.getName()));
+            System.out.println("Shard " + index + "/" + count + " of '" + suite.getName() + "' runs " + kept);
+        }
+    }
+
+    @Override
+    public Iterator<Object[]> intercept(Iterator<Object[]> original, IDataProviderMethod dataProviderMethod,
+                                        ITestNGMethod method, ITestContext context) {
+        Class<?> real = method.getRealClass();
+        if (count <= 1 || !real.isAnnotationPresent(ShardRows.class)) {
+            return original;
+        }
+        String prefix = method.getQualifiedName();
+        return new Iterator<>() {
+            private Object[] next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && original.hasNext()) {
+                    Object[] row = original.next();
+                    if (ShardPlan.owns(prefix + Arrays.deepToString(row), count, index)) {
+                        next = row;
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Object[] row = next;
+                next = null;
+                return row;
+            }
+        };
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (count <= 1) {
+            return;                     // unsharded runs leave the shard durations alone
+        }
+        Properties measured = new Properties();
+        for (ISuiteResult result : suite.getResults().values()) {
+            ITestContext context = result.getTestContext();
+            if (context.getStartDate() != null && context.getEndDate() != null) {
+                long millis = context.getEndDate().getTime() - context.getStartDate().getTime();
+                measured.setProperty(context.getName(), Long.toString(millis));
+            }
+        }
+        if (measured.isEmpty()) {
+            return;
+        }
+        Path file = OUTPUT_DIR.resolve("durations-shard-" + index + ".properties");
+        try {
+            Files.createDirectories(OUTPUT_DIR);
+            Properties all = new Properties();
+            if (Files.exists(file)) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    all.load(in);
+                }
+            }
+            all.putAll(measured);
+            try (OutputStream out = Files.newOutputStream(file)) {
+                all.store(out, "Measured <test> durations (ms), shard " + index + "/" + count);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /* ===========================
+       Internals
+       =========================== */
+
+    static Map<String, Long> readDurations(Path file) {
+        Map<String, Long> durations = new HashMap<>();
+        if (!Files.exists(file)) {
+            return durations;
+        }
+        Properties p = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            p.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (String name : p.stringPropertyNames()) {
+            durations.put(name, Long.parseLong(p.getProperty(name).trim()));
+        }
+        return durations;
+    }
+
+    private static boolean splitsRows(XmlTest test) {
+        for (XmlClass xmlClass : test.getXmlClasses()) {
+            Class<?> type = xmlClass.getSupportClass();
+            if (type != null && type.isAnnotationPresent(ShardRows.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}